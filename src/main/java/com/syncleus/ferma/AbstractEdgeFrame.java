@@ -27,6 +27,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 
 import java.util.function.Function;
@@ -88,11 +89,17 @@ public abstract class AbstractEdgeFrame extends AbstractElementFrame implements
 
     @Override
     public <T extends Traversable<?, ?>> T traverse(final Function<GraphTraversal<Edge, Edge>, GraphTraversal<?, ?>> traverser) {
-        return this.getGraph().traverse(input -> traverser.apply(input.E(getElement().id())));
+        return this.getGraph().traverse(input -> traverser.apply(startTraversal(input)));
     }
 
     @Override
     public GraphTraversal<? extends Edge, ? extends Edge> getRawTraversal() {
-        return this.getGraph().getRawTraversal().E(getElement().id());
+        return startTraversal(this.getGraph().getRawTraversal());
+    }
+
+    private GraphTraversal<Edge, Edge> startTraversal(final GraphTraversalSource source) {
+        if (getGraph().isInjectingElements())
+            return source.inject(getElement());
+        return source.E(getElement().id());
     }
 }
@@ -23,9 +23,12 @@
  */
 package com.syncleus.ferma;
 
+import com.syncleus.ferma.annotations.CachedProperties;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -35,6 +38,22 @@ public abstract class AbstractElementFrame implements ElementFrame {
 
     private Element element;
     private FramedGraph graph;
+    private Map<String, Object> propertySnapshot;
+    private TransactionEpoch propertySnapshotEpoch;
+
+    private static final ClassValue<Boolean> CACHED_PROPERTIES = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            if( type.isAnnotationPresent(CachedProperties.class) )
+                return true;
+            if( type.getSuperclass() != null && get(type.getSuperclass()) )
+                return true;
+            for (final Class<?> superInterface : type.getInterfaces())
+                if( get(superInterface) )
+                    return true;
+            return false;
+        }
+    };
 
     /**
      * This method is called anytime an element is instantiated. If the element is a new element or an existing element
@@ -46,6 +65,44 @@ public abstract class AbstractElementFrame implements ElementFrame {
     protected void init(final FramedGraph graph, final Element element) {
         this.graph = graph;
         this.element = element;
+        this.propertySnapshot = null;
+    }
+
+    /**
+     * Serves subsequent reads of the given property keys from the given values instead of the element. Keys mapped to
+     * null are known to be absent. Writes through this frame keep the snapshot up to date. The snapshot is dropped once
+     * the transaction of the current thread is committed or rolled back.
+     *
+     * @param snapshot the prefetched property values, or null to read every property from the element again.
+     */
+    void setPropertySnapshot(final Map<String, Object> snapshot) {
+        this.propertySnapshot = snapshot;
+        this.propertySnapshotEpoch = TransactionEpoch.current();
+    }
+
+    /**
+     * Determines if property values read through this frame are cached within it. By default this is the case for
+     * frame types annotated with CachedProperties.
+     *
+     * @return true if property values are cached, false otherwise.
+     */
+    protected boolean isCachingProperties() {
+        return CACHED_PROPERTIES.get(getClass());
+    }
+
+    private Map<String, Object> getPropertySnapshot() {
+        if( this.propertySnapshot != null && this.propertySnapshotEpoch != TransactionEpoch.current() )
+            this.propertySnapshot = null;
+        return this.propertySnapshot;
+    }
+
+    private void updatePropertySnapshot(final String name, final Object value) {
+        final boolean caching = isCachingProperties();
+        if( caching && getPropertySnapshot() == null )
+            setPropertySnapshot(new HashMap<>());
+        final Map<String, Object> snapshot = getPropertySnapshot();
+        if( snapshot != null && (caching || snapshot.containsKey(name)) )
+            snapshot.put(name, value);
     }
 
     /**
@@ -64,6 +121,9 @@ public abstract class AbstractElementFrame implements ElementFrame {
 
     @Override
     public Set<String> getPropertyKeys() {
+        final ElementCache cache = getReadableElementCache();
+        if( cache != null )
+            return cache.getSnapshot(getElement()).getKeys();
         return getElement().keys();
     }
 
@@ -75,18 +135,53 @@ public abstract class AbstractElementFrame implements ElementFrame {
     @Override
     public void setTypeResolution(final Class<?> type) {
         getGraph().getTypeResolver().init(getElement(), type);
+        evictFromCaches();
     }
 
     @Override
     public void removeTypeResolution() {
         getGraph().getTypeResolver().deinit(getElement());
+        evictFromCaches();
     }
 
     @Override
     public void remove() {
+        this.propertySnapshot = null;
+        evictFromCaches();
         getElement().remove();
     }
 
+    private void evictFromCaches() {
+        final FrameSession session = FrameSession.getActive();
+        if( session != null )
+            session.evict(getElement());
+        invalidateCachedElement();
+    }
+
+    /**
+     * Invalidates the element in the shared element cache after it was written. In a transactional graph the element
+     * is invalidated again once the transaction ends, and until then the transaction does not use the cache.
+     */
+    void invalidateCachedElement() {
+        final ElementCache cache = getElementCache();
+        if( cache == null )
+            return;
+        cache.invalidate(getElement());
+        final FramedGraph graph = getGraph();
+        if( !(graph instanceof DelegatingFramedGraph) || ((DelegatingFramedGraph<?>) graph).supportsTransactions() )
+            TransactionEpoch.current().markDirty(cache, getElement());
+    }
+
+    private ElementCache getElementCache() {
+        final FramedGraph graph = getGraph();
+        return (graph != null ? graph.getElementCache() : null);
+    }
+
+    private ElementCache getReadableElementCache() {
+        final ElementCache cache = getElementCache();
+        return (cache != null && !TransactionEpoch.current().isDirty(cache) ? cache : null);
+    }
+
     @Override
     public Element getElement() {
         return element;
@@ -95,6 +190,7 @@ public abstract class AbstractElementFrame implements ElementFrame {
     @Override
     public void setElement(final Element element) {
         this.element = element;
+        this.propertySnapshot = null;
     }
 
     @Override
@@ -104,19 +200,33 @@ public abstract class AbstractElementFrame implements ElementFrame {
 
     @Override
     public <T> T getProperty(final String name) {
+        final Map<String, Object> snapshot = getPropertySnapshot();
+        if( snapshot != null && snapshot.containsKey(name) )
+            return (T) snapshot.get(name);
+        final T value = readProperty(name);
+        if( isCachingProperties() )
+            updatePropertySnapshot(name, value);
+        return value;
+    }
+
+    private <T> T readProperty(final String name) {
+        final ElementCache cache = getReadableElementCache();
+        if( cache != null ) {
+            final ElementSnapshot snapshot = cache.getSnapshot(getElement());
+            if( !snapshot.getKeys().contains(name) )
+                return null;
+            else if( snapshot.getValues().containsKey(name) )
+                return (T) snapshot.getValues().get(name);
+        }
         final Property<T> property = getElement().<T>property(name);
-        if( property.isPresent())
-            return property.value();
-        else
-            return null;
+        return (property.isPresent() ? property.value() : null);
     }
 
     @Override
     public <T> T getProperty(final String name, final Class<T> type) {
-        final Property<T> nameProperty = getElement().property(name);
-        if( !nameProperty.isPresent() )
+        final T nameValue = getProperty(name);
+        if( nameValue == null )
             return null;
-        final T nameValue = nameProperty.value();
 
         if (type.isEnum()) {
             return (T) Enum.valueOf((Class<Enum>) type, nameValue.toString());
@@ -133,6 +243,8 @@ public abstract class AbstractElementFrame implements ElementFrame {
         } else {
             getElement().property(name, value);
         }
+        invalidateCachedElement();
+        updatePropertySnapshot(name, value instanceof Enum ? value.toString() : value);
     }
 
     @Override
@@ -31,10 +31,11 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.*;
 import org.apache.tinkerpop.gremlin.structure.util.wrapped.WrappedElement;
 import java.util.Iterator;
-import java.util.function.Consumer;
 
 /**
  * The base class that all vertex frames must extend.
@@ -52,10 +53,7 @@ public abstract class AbstractVertexFrame extends AbstractElementFrame implement
 
     @Override
     public <T> T addFramedEdge(final String label, final VertexFrame inVertex, final ClassInitializer<T> initializer) {
-
-        final Edge edge = getElement().addEdge(label, inVertex.getElement());
-        final T framedEdge = getGraph().frameNewElement(edge, initializer);
-        return framedEdge;
+        return getGraph().addFramedEdge(this, inVertex, label, initializer);
     }
     
     @Override
@@ -65,10 +63,7 @@ public abstract class AbstractVertexFrame extends AbstractElementFrame implement
 
     @Override
     public <T> T addFramedEdgeExplicit(final String label, final VertexFrame inVertex, final ClassInitializer<T> initializer) {
-
-        final Edge edge = getElement().addEdge(label, inVertex.getElement());
-        final T framedEdge = getGraph().frameNewElementExplicit(edge, initializer);
-        return framedEdge;
+        return getGraph().addFramedEdgeExplicit(this, inVertex, label, initializer);
     }
     
     @Override
@@ -108,32 +103,18 @@ public abstract class AbstractVertexFrame extends AbstractElementFrame implement
 
     @Override
     public void unlinkOut(final VertexFrame vertex, final String... labels) {
-        final Iterator<Edge> edges = this.getRawTraversal().outE(labels);
-        edges.forEachRemaining(new Consumer<Edge>() {
-            @Override
-            public void accept(final Edge edge) {
-                if( vertex == null )
-                    edge.remove();
-                else if( edge.inVertex().equals(vertex.getElement()) )
-                    edge.remove();
-            }
-        });
+        final GraphTraversal<?, Edge> edges = this.getRawTraversal().outE(labels);
+        if( vertex != null )
+            edges.where(__.inV().hasId(vertex.getElement().id()));
+        edges.drop().iterate();
     }
 
     @Override
     public void unlinkIn(final VertexFrame vertex, final String... labels) {
-        final Iterator<Edge> edges = this.getRawTraversal().inE(labels);
-        edges.forEachRemaining(new Consumer<Edge>() {
-            @Override
-            public void accept(final Edge edge) {
-                if( vertex == null ) {
-                    edge.remove();
-                }
-                else if( edge.outVertex().id().equals(vertex.getElement().id()) ) {
-                    edge.remove();
-                }
-            }
-        });
+        final GraphTraversal<?, Edge> edges = this.getRawTraversal().inE(labels);
+        if( vertex != null )
+            edges.where(__.outV().hasId(vertex.getElement().id()));
+        edges.drop().iterate();
     }
 
     @Override
@@ -142,6 +123,36 @@ public abstract class AbstractVertexFrame extends AbstractElementFrame implement
         this.unlinkOut(vertex, labels);
     }
 
+    @Override
+    public long countOut(final String... labels) {
+        return getRawTraversal().outE(labels).count().next();
+    }
+
+    @Override
+    public long countIn(final String... labels) {
+        return getRawTraversal().inE(labels).count().next();
+    }
+
+    @Override
+    public long countBoth(final String... labels) {
+        return getRawTraversal().bothE(labels).count().next();
+    }
+
+    @Override
+    public boolean hasOut(final String... labels) {
+        return getRawTraversal().outE(labels).limit(1).hasNext();
+    }
+
+    @Override
+    public boolean hasIn(final String... labels) {
+        return getRawTraversal().inE(labels).limit(1).hasNext();
+    }
+
+    @Override
+    public boolean hasBoth(final String... labels) {
+        return getRawTraversal().bothE(labels).limit(1).hasNext();
+    }
+
     @Override
     public void setLinkOut(final VertexFrame vertex, final String... labels) {
         unlinkOut(null, labels);
@@ -305,11 +316,17 @@ public abstract class AbstractVertexFrame extends AbstractElementFrame implement
 
     @Override
     public <T extends Traversable<?, ?>> T traverse(final Function<GraphTraversal<Vertex, Vertex>, GraphTraversal<?, ?>> traverser) {
-        return this.getGraph().traverse(input -> traverser.apply(input.V(getElement().id())));
+        return this.getGraph().traverse(input -> traverser.apply(startTraversal(input)));
     }
 
     @Override
     public GraphTraversal<? extends Vertex, ? extends Vertex> getRawTraversal() {
-        return this.getGraph().getRawTraversal().V(getElement().id());
+        return startTraversal(this.getGraph().getRawTraversal());
+    }
+
+    private GraphTraversal<Vertex, Vertex> startTraversal(final GraphTraversalSource source) {
+        if (getGraph().isInjectingElements())
+            return source.inject(getElement());
+        return source.V(getElement().id());
     }
 }
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.syncleus.ferma.typeresolvers.TypeResolver;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An element cache holding at most a given number of elements, evicting the least recently used elements first, and
+ * optionally expiring elements a given time after they were cached.
+ */
+public class BoundedElementCache implements ElementCache {
+    private final Cache<Key, Entry> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates a cache whose elements never expire.
+     *
+     * @param maximumSize the maximum number of elements cached.
+     */
+    public BoundedElementCache(final long maximumSize) {
+        this(maximumSize, 0, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a cache whose elements expire a given time after they were cached.
+     *
+     * @param maximumSize the maximum number of elements cached.
+     * @param timeToLive the time after which elements expire, or 0 if they never expire.
+     * @param unit the unit of the time to live.
+     */
+    public BoundedElementCache(final long maximumSize, final long timeToLive, final TimeUnit unit) {
+        if( maximumSize <= 0 )
+            throw new IllegalArgumentException("maximumSize must be positive");
+        if( timeToLive < 0 )
+            throw new IllegalArgumentException("timeToLive can not be negative");
+
+        final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize);
+        if( timeToLive > 0 )
+            builder.expireAfterWrite(timeToLive, unit);
+        this.entries = builder.build();
+    }
+
+    @Override
+    public ElementSnapshot getSnapshot(final Element element) {
+        final Entry entry = entry(element);
+        ElementSnapshot snapshot = entry.snapshot;
+        if( snapshot == null ) {
+            this.missCount.incrementAndGet();
+            snapshot = ElementSnapshot.of(element);
+            entry.snapshot = snapshot;
+        }
+        else
+            this.hitCount.incrementAndGet();
+        return snapshot;
+    }
+
+    @Override
+    public <T> Class<? extends T> getFrameType(final Element element, final Class<T> kind, final TypeResolver resolver) {
+        final Entry entry = entry(element);
+        Class<?> frameType = entry.frameTypes.get(kind);
+        if( frameType == null ) {
+            this.missCount.incrementAndGet();
+            frameType = resolver.resolve(element, kind);
+            entry.frameTypes.put(kind, frameType);
+        }
+        else
+            this.hitCount.incrementAndGet();
+        return (Class<? extends T>) frameType;
+    }
+
+    @Override
+    public void invalidate(final Element element) {
+        this.entries.invalidate(new Key(element));
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.entries.invalidateAll();
+    }
+
+    @Override
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Returns the approximate number of elements cached.
+     *
+     * @return the number of cached elements.
+     */
+    public long size() {
+        return this.entries.size();
+    }
+
+    private Entry entry(final Element element) {
+        return this.entries.asMap().computeIfAbsent(new Key(element), key -> new Entry());
+    }
+
+    private static final class Entry {
+        private volatile ElementSnapshot snapshot;
+        private final ConcurrentMap<Class<?>, Class<?>> frameTypes = new ConcurrentHashMap<>();
+    }
+
+    private static final class Key {
+        private final boolean vertex;
+        private final Object id;
+
+        Key(final Element element) {
+            this.vertex = element instanceof Vertex;
+            this.id = element.id();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.id.hashCode() + (this.vertex ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            final Key other = (Key) o;
+            return this.vertex == other.vertex && this.id.equals(other.id);
+        }
+    }
+}
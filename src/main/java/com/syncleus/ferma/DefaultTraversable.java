@@ -15,17 +15,36 @@
  */
 package com.syncleus.ferma;
 
+import com.syncleus.ferma.framefactories.annotation.ReflectionUtility;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class DefaultTraversable<PE, E> implements Traversable<PE, E>{
+    private static final String PREFETCHED_ELEMENT = "element";
+    private static final String PREFETCHED_PROPERTIES = "properties";
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 256;
+    private static final int PARALLEL_CHUNKS = Runtime.getRuntime().availableProcessors() * 4;
+
     final private GraphTraversal<PE, E> baseTraversal;
     final private FramedGraph parentGraph;
 
@@ -174,25 +193,144 @@ public class DefaultTraversable<PE, E> implements Traversable<PE, E>{
     }
 
     @Override
-    public <N> List<? extends N> toList(final Class<N> kind) {
-        return Lists.transform((List<Element>) this.baseTraversal.toList(), new com.google.common.base.Function<Element, N>() {
+    public <N> Iterator<N> framePrefetched(final Class<N> kind) {
+        return framePrefetched(kind, element -> this.parentGraph.frameElement(element, kind));
+    }
+
+    @Override
+    public <N> Iterator<N> framePrefetchedExplicit(final Class<N> kind) {
+        return framePrefetched(kind, element -> this.parentGraph.frameElementExplicit(element, kind));
+    }
+
+    private <N> Iterator<N> framePrefetched(final Class<N> kind, final Function<Element, N> framer) {
+        final Set<String> keys = ReflectionUtility.getPropertyKeys(kind);
+        if (keys.isEmpty())
+            return Iterators.transform((Iterator<Element>) this.baseTraversal, framer::apply);
+
+        final GraphTraversal<PE, Map<String, Object>> prefetched = this.baseTraversal
+                .project(PREFETCHED_ELEMENT, PREFETCHED_PROPERTIES)
+                .by()
+                .by(__.valueMap(keys.toArray(new String[keys.size()])));
+        return new Iterator<N>() {
             @Override
-            public N apply(final Element input) {
-                return parentGraph.frameElement(input, kind);
+            public boolean hasNext() {
+                return prefetched.hasNext();
             }
-        });
+
+            @Override
+            public N next() {
+                final Map<String, Object> result = prefetched.next();
+                final Element element = (Element) result.get(PREFETCHED_ELEMENT);
+                final N frame = framer.apply(element);
+                if (frame instanceof AbstractElementFrame)
+                    ((AbstractElementFrame) frame).setPropertySnapshot(propertySnapshot(element, keys, (Map<String, Object>) result.get(PREFETCHED_PROPERTIES)));
+                return frame;
+            }
+        };
+    }
+
+    private static Map<String, Object> propertySnapshot(final Element element, final Set<String> keys, final Map<String, Object> valueMap) {
+        final Map<String, Object> snapshot = new HashMap<>();
+        for (final String key : keys) {
+            final Object value = valueMap.get(key);
+            if (!(element instanceof Vertex) || value == null)
+                snapshot.put(key, value);
+            else {
+                final List<?> values = (List<?>) value;
+                if (values.size() == 1)
+                    snapshot.put(key, values.get(0));
+            }
+        }
+        return snapshot;
     }
 
     @Override
-    public <N> List<? extends N> toListExplicit(final Class<N> kind) {
-        return Lists.transform((List<Element>) this.baseTraversal.toList(), new com.google.common.base.Function<Element, N>() {
+    public <N> Iterator<N> frameFlyweight(final Class<N> kind) {
+        return new Iterator<N>() {
+            private final Map<Class<?>, N> frames = new HashMap<>();
+
             @Override
-            public N apply(final Element input) {
-                return parentGraph.frameElementExplicit(input, kind);
+            public boolean hasNext() {
+                return baseTraversal.hasNext();
+            }
+
+            @Override
+            public N next() {
+                final Element element = (Element) baseTraversal.next();
+                final Class<?> frameType = (kind == TVertex.class || kind == TEdge.class) ? kind : parentGraph.getTypeResolver().resolve(element, kind);
+                N frame = frames.get(frameType);
+                if (frame == null) {
+                    frame = (N) parentGraph.getBuilder().create(element, frameType);
+                    frames.put(frameType, frame);
+                }
+                ((AbstractElementFrame) frame).init(parentGraph, element);
+                return frame;
+            }
+        };
+    }
+
+    @Override
+    public <N> Iterator<N> frameFlyweightExplicit(final Class<N> kind) {
+        return new Iterator<N>() {
+            private N frame;
+
+            @Override
+            public boolean hasNext() {
+                return baseTraversal.hasNext();
+            }
+
+            @Override
+            public N next() {
+                final Element element = (Element) baseTraversal.next();
+                if (frame == null)
+                    frame = parentGraph.getBuilder().create(element, kind);
+                ((AbstractElementFrame) frame).init(parentGraph, element);
+                return frame;
+            }
+        };
+    }
+
+    @Override
+    public <N> Stream<N> stream(final Class<N> kind) {
+        return frameStream(kind, false);
+    }
+
+    @Override
+    public <N> Stream<N> streamExplicit(final Class<N> kind) {
+        return frameStream(kind, true);
+    }
+
+    private <N> Stream<N> frameStream(final Class<N> kind, final boolean explicit) {
+        return StreamSupport.stream(new FrameSpliterator<>(kind, explicit), false).onClose(() -> {
+            try {
+                this.baseTraversal.close();
+            }
+            catch (final Exception caught) {
+                throw new IllegalStateException("traversal could not be closed", caught);
             }
         });
     }
 
+    @Override
+    public <N> List<? extends N> toList(final Class<N> kind) {
+        return frameAll((List<Element>) this.baseTraversal.toList(), element -> this.parentGraph.frameElement(element, kind));
+    }
+
+    @Override
+    public <N> List<? extends N> toListExplicit(final Class<N> kind) {
+        return frameAll((List<Element>) this.baseTraversal.toList(), element -> this.parentGraph.frameElementExplicit(element, kind));
+    }
+
+    @Override
+    public <N> List<? extends N> toListParallel(final Class<N> kind, final Executor executor) {
+        return frameAll((List<Element>) this.baseTraversal.toList(), kind, false, executor);
+    }
+
+    @Override
+    public <N> List<? extends N> toListParallelExplicit(final Class<N> kind, final Executor executor) {
+        return frameAll((List<Element>) this.baseTraversal.toList(), kind, true, executor);
+    }
+
     @Override
     public <N> Set<? extends N> toSet(final Class<N> kind) {
         return Sets.newHashSet(toList(kind));
@@ -202,4 +340,201 @@ public class DefaultTraversable<PE, E> implements Traversable<PE, E>{
     public <N> Set<? extends N> toSetExplicit(final Class<N> kind) {
         return Sets.newHashSet(toListExplicit(kind));
     }
+
+    @Override
+    public <N> Set<? extends N> toSetParallel(final Class<N> kind, final Executor executor) {
+        return Sets.newHashSet(toListParallel(kind, executor));
+    }
+
+    @Override
+    public <N> Set<? extends N> toSetParallelExplicit(final Class<N> kind, final Executor executor) {
+        return Sets.newHashSet(toListParallelExplicit(kind, executor));
+    }
+
+    private static <N> List<N> frameAll(final List<Element> elements, final Function<Element, N> framer) {
+        final List<N> frames = new ArrayList<>(elements.size());
+        for (final Element element : elements)
+            frames.add(framer.apply(element));
+        return frames;
+    }
+
+    private <N> List<N> frameAll(final List<Element> elements, final Class<N> kind, final boolean explicit, final Executor executor) {
+        if( executor == null )
+            throw new IllegalArgumentException("executor can not be null");
+
+        final int chunkSize = Math.max(MIN_PARALLEL_CHUNK_SIZE, (elements.size() + PARALLEL_CHUNKS - 1) / PARALLEL_CHUNKS);
+        if (elements.size() <= chunkSize || !(this.parentGraph instanceof DelegatingFramedGraph))
+            return frameAll(elements, element -> explicit ? this.parentGraph.frameElementExplicit(element, kind) : this.parentGraph.frameElement(element, kind));
+
+        // the frame session, the transaction epoch and the type property all belong to the calling thread, so only
+        // the construction of the frames is handed to the executor
+        final ResolvedFrames<N> resolved = new ResolvedFrames<>((DelegatingFramedGraph<?>) this.parentGraph, elements, kind, explicit);
+        final List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int start = 0; start < resolved.size(); start += chunkSize) {
+            final int chunkStart = start;
+            final int chunkEnd = Math.min(start + chunkSize, resolved.size());
+            chunks.add(CompletableFuture.runAsync(() -> {
+                for (int index = chunkStart; index < chunkEnd; index++)
+                    resolved.get(index);
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(chunks.toArray(new CompletableFuture[chunks.size()])).join();
+        }
+        catch (final CompletionException caught) {
+            if (caught.getCause() instanceof RuntimeException)
+                throw (RuntimeException) caught.getCause();
+            throw caught;
+        }
+        return resolved.toRegisteredList();
+    }
+
+    /**
+     * The elements of a drained pipeline, each with the frame the active FrameSession already holds for it or else its
+     * resolved frame type. Resolving reads the element within the transaction of the calling thread, so it is done
+     * when created, while the frames can then be constructed on any thread. Each index must only be constructed by a
+     * single thread.
+     */
+    private static final class ResolvedFrames<N> {
+        private final DelegatingFramedGraph<?> graph;
+        private final List<Element> elements;
+        private final Class<N> kind;
+        private final boolean explicit;
+        private final FrameSession session;
+        private final Object[] frames;
+        private final Class<?>[] frameTypes;
+
+        ResolvedFrames(final DelegatingFramedGraph<?> graph, final List<Element> elements, final Class<N> kind, final boolean explicit) {
+            this.graph = graph;
+            this.elements = elements;
+            this.kind = kind;
+            this.explicit = explicit;
+            this.session = FrameSession.getActive();
+            this.frames = new Object[elements.size()];
+            this.frameTypes = new Class<?>[elements.size()];
+            for (int index = 0; index < this.frames.length; index++) {
+                final Element element = elements.get(index);
+                if (this.session != null)
+                    this.frames[index] = this.session.get(graph, element, kind, explicit);
+                if (this.frames[index] == null)
+                    this.frameTypes[index] = graph.resolveFrameType(element, kind, explicit);
+            }
+        }
+
+        int size() {
+            return this.frames.length;
+        }
+
+        N get(final int index) {
+            if (this.frames[index] == null)
+                this.frames[index] = this.graph.createFrame(this.elements.get(index), this.frameTypes[index]);
+            return (N) this.frames[index];
+        }
+
+        /**
+         * Returns every frame, registering the constructed frames with the session active when the elements were
+         * resolved. Must be called on the thread which resolved the elements, after all frames were constructed.
+         */
+        List<N> toRegisteredList() {
+            final List<N> registered = new ArrayList<>(this.frames.length);
+            for (int index = 0; index < this.frames.length; index++) {
+                final N frame = get(index);
+                registered.add(this.session != null && this.frameTypes[index] != null ? this.session.register(this.graph, this.elements.get(index), this.kind, this.explicit, frame) : frame);
+            }
+            return registered;
+        }
+    }
+
+    /**
+     * Splits a range of resolved frames, constructing each frame as it is consumed.
+     */
+    private static final class ResolvedFrameSpliterator<N> implements Spliterator<N> {
+        private final ResolvedFrames<N> frames;
+        private int index;
+        private final int fence;
+
+        ResolvedFrameSpliterator(final ResolvedFrames<N> frames, final int origin, final int fence) {
+            this.frames = frames;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super N> action) {
+            if (this.index >= this.fence)
+                return false;
+            action.accept(this.frames.get(this.index++));
+            return true;
+        }
+
+        @Override
+        public Spliterator<N> trySplit() {
+            final int size = this.fence - this.index;
+            if (size <= MIN_PARALLEL_CHUNK_SIZE)
+                return null;
+            final int middle = this.index + size / 2;
+            final Spliterator<N> prefix = new ResolvedFrameSpliterator<>(this.frames, this.index, middle);
+            this.index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.fence - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Frames the elements of the pipeline as they are consumed. The first split, which a parallel stream makes on the
+     * thread consuming it, drains the rest of the pipeline and resolves the frame types on that thread, after which
+     * only the construction of the frames is split.
+     */
+    private final class FrameSpliterator<N> implements Spliterator<N> {
+        private final Class<N> kind;
+        private final boolean explicit;
+        private ResolvedFrameSpliterator<N> resolved;
+
+        FrameSpliterator(final Class<N> kind, final boolean explicit) {
+            this.kind = kind;
+            this.explicit = explicit;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super N> action) {
+            if (this.resolved != null)
+                return this.resolved.tryAdvance(action);
+            if (!baseTraversal.hasNext())
+                return false;
+            final Element element = (Element) baseTraversal.next();
+            action.accept(this.explicit ? parentGraph.frameElementExplicit(element, this.kind) : parentGraph.frameElement(element, this.kind));
+            return true;
+        }
+
+        @Override
+        public Spliterator<N> trySplit() {
+            if (this.resolved == null) {
+                if (!(parentGraph instanceof DelegatingFramedGraph))
+                    return null;
+                final List<Element> elements = (List<Element>) baseTraversal.toList();
+                this.resolved = new ResolvedFrameSpliterator<>(new ResolvedFrames<>((DelegatingFramedGraph<?>) parentGraph, elements, this.kind, this.explicit), 0, elements.size());
+            }
+            return this.resolved.trySplit();
+        }
+
+        @Override
+        public long estimateSize() {
+            return (this.resolved != null ? this.resolved.estimateSize() : Long.MAX_VALUE);
+        }
+
+        @Override
+        public int characteristics() {
+            return (this.resolved != null ? this.resolved.characteristics() : Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+    }
 }
@@ -23,7 +23,10 @@
  */
 package com.syncleus.ferma;
 
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import com.syncleus.ferma.framefactories.FrameFactory;
 import com.syncleus.ferma.framefactories.DefaultFrameFactory;
 import com.syncleus.ferma.typeresolvers.UntypedTypeResolver;
@@ -36,16 +39,28 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSo
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGraph<G>{
 
+    public final static int BULK_BATCH_SIZE = 1000;
+
     private final TypeResolver defaultResolver;
     private final TypeResolver untypedResolver;
     private final FrameFactory builder;
     private final G delegate;
+    private volatile ElementCache elementCache;
+    private volatile boolean injectingElements;
 
     @Override
     public G getBaseGraph() {
@@ -143,6 +158,26 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
      * 			  True if annotated classes will be supported, false otherwise.
      */
     public DelegatingFramedGraph(final G delegate, final ReflectionCache reflections, final boolean typeResolution, final boolean annotationsSupported) {
+        this(delegate, reflections, typeResolution, annotationsSupported, false);
+    }
+
+    /**
+     * Construct a framed graph with the specified typeResolution and annotation support, optionally generating the
+     * frame classes of all types known to the reflection cache upfront.
+     *
+     * @param delegate
+     *            The graph to wrap.
+     * @param reflections
+     * 			  A RefelctionCache used to determine reflection and hierarchy of classes.
+     * @param typeResolution
+     * 			  True if type resolution is to be automatically handled by default, false causes explicit typing by
+     * @param annotationsSupported
+     * 			  True if annotated classes will be supported, false otherwise.
+     * @param warmUp
+     * 			  True if the annotated frame classes should be generated during construction, false to generate them
+     * 			  when first framed. Only applies when annotations are supported.
+     */
+    public DelegatingFramedGraph(final G delegate, final ReflectionCache reflections, final boolean typeResolution, final boolean annotationsSupported, final boolean warmUp) {
         this.delegate = delegate;
 
         if( reflections == null )
@@ -156,8 +191,12 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
             this.defaultResolver = new UntypedTypeResolver();
             this.untypedResolver = this.defaultResolver;
         }
-        if (annotationsSupported)
-            this.builder = new AnnotationFrameFactory(reflections);
+        if (annotationsSupported) {
+            final AnnotationFrameFactory annotationFrameFactory = new AnnotationFrameFactory(reflections);
+            if (warmUp)
+                annotationFrameFactory.warmUp();
+            this.builder = annotationFrameFactory;
+        }
         else
             this.builder = new DefaultFrameFactory();
     }
@@ -220,6 +259,49 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
         return builder;
     }
 
+    @Override
+    public ElementCache getElementCache() {
+        return elementCache;
+    }
+
+    /**
+     * Determines if writes to the underlying graph only become visible to other transactions once committed. Elements
+     * written in such a graph are invalidated in the element cache again when the transaction ends.
+     *
+     * @return true if the underlying graph supports transactions.
+     */
+    boolean supportsTransactions() {
+        return this.getBaseGraph().features().graph().supportsTransactions();
+    }
+
+    /**
+     * Sets the cache consulted by frames of this graph before reading the properties or resolving the frame type of an
+     * element. The cache can be shared by several graphs framing the same underlying graph, such as the graphs of
+     * separate transactions.
+     *
+     * @param elementCache the element cache, or null to always read elements from the graph.
+     */
+    public void setElementCache(final ElementCache elementCache) {
+        this.elementCache = elementCache;
+    }
+
+    @Override
+    public boolean isInjectingElements() {
+        return injectingElements;
+    }
+
+    /**
+     * Sets whether the traversals of frames start from their bound element injected into the traversal, instead of
+     * looking the element up again by its id. This should only be enabled for graphs able to traverse from injected
+     * elements, such as embedded graphs. It saves little on graphs which look elements up by id in memory, such as
+     * TinkerGraph.
+     *
+     * @param injectingElements true to start frame traversals from the bound element, false to look it up by id.
+     */
+    public void setInjectingElements(final boolean injectingElements) {
+        this.injectingElements = injectingElements;
+    }
+
     /**
      * Close the delegate graph.
      */
@@ -241,8 +323,48 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
         if (e == null)
             return null;
 
-        final Class<? extends T> frameType = (kind == TVertex.class || kind == TEdge.class) ? kind : defaultResolver.resolve(e, kind);
+        final FrameSession session = FrameSession.getActive();
+        if (session != null) {
+            final T sessionFrame = session.get(this, e, kind, false);
+            if (sessionFrame != null)
+                return sessionFrame;
+        }
+
+        final T frame = createFrame(e, resolveFrameType(e, kind, false));
+        return (session != null ? session.register(this, e, kind, false, frame) : frame);
+    }
+
+    /**
+     * Resolves the type an element is framed as. This may read the element, so it must run on the thread owning the
+     * transaction of this graph.
+     *
+     * @param e the element to frame.
+     * @param kind the kind requested.
+     * @param explicit true to bypass the type resolution, false otherwise.
+     * @param <T> the kind requested.
+     * @return the type of the frame.
+     */
+    <T> Class<? extends T> resolveFrameType(final Element e, final Class<T> kind, final boolean explicit) {
+        if (explicit)
+            return this.untypedResolver.resolve(e, kind);
+        else if (kind == TVertex.class || kind == TEdge.class)
+            return kind;
+        else if (elementCache != null && !TransactionEpoch.current().isDirty(elementCache))
+            return elementCache.getFrameType(e, kind, defaultResolver);
+        else
+            return defaultResolver.resolve(e, kind);
+    }
 
+    /**
+     * Creates a frame of an already resolved type bound to an element. This neither reads the element nor uses the
+     * active FrameSession, so it may run on any thread.
+     *
+     * @param e the element to frame.
+     * @param frameType the type of the frame.
+     * @param <T> the type of the frame.
+     * @return the new frame.
+     */
+    <T> T createFrame(final Element e, final Class<? extends T> frameType) {
         final T frame = builder.create(e, frameType);
         ((AbstractElementFrame) frame).init(this, e);
         return frame;
@@ -252,6 +374,7 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
     public <T> T frameNewElement(final Element e, final ClassInitializer<T> initializer) {
         final T frame = frameElement(e, initializer.getInitializationType());
         defaultResolver.init(e, initializer.getInitializationType());
+        ((AbstractElementFrame) frame).invalidateCachedElement();
         ((AbstractElementFrame) frame).init();
         initializer.initalize(frame);
         return frame;
@@ -279,17 +402,22 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
         if (e == null)
             return null;
 
-        final Class<? extends T> frameType = this.untypedResolver.resolve(e, kind);
+        final FrameSession session = FrameSession.getActive();
+        if (session != null) {
+            final T sessionFrame = session.get(this, e, kind, true);
+            if (sessionFrame != null)
+                return sessionFrame;
+        }
 
-        final T frame = builder.create(e, frameType);
-        ((AbstractElementFrame) frame).init(this, e);
-        return frame;
+        final T frame = createFrame(e, resolveFrameType(e, kind, true));
+        return (session != null ? session.register(this, e, kind, true, frame) : frame);
     }
 
     @Override
     public <T> T frameNewElementExplicit(final Element e, final ClassInitializer<T> initializer) {
         final T frame = frameElement(e, initializer.getInitializationType());
         this.untypedResolver.init(e, initializer.getInitializationType());
+        ((AbstractElementFrame) frame).invalidateCachedElement();
         ((AbstractElementFrame) frame).init();
         initializer.initalize(frame);
         return frame;
@@ -314,14 +442,8 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
 
     @Override
     public <T> T addFramedVertex(final ClassInitializer<T> initializer, final Object... keyValues) {
-        if( keyValues != null ) {
-            final T framedVertex = frameNewElement(this.getBaseGraph().addVertex(keyValues), initializer);
-            return framedVertex;
-        }
-        else {
-            final T framedVertex = frameNewElement(this.getBaseGraph().addVertex(), initializer);
-            return framedVertex;
-        }
+        final Vertex vertex = this.addTypedVertex(this.defaultResolver, initializer.getInitializationType(), keyValues);
+        return this.frameCreatedElement(vertex, initializer);
     }
     
     @Override
@@ -336,8 +458,8 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
 
     @Override
     public <T> T addFramedVertexExplicit(final ClassInitializer<T> initializer) {
-        final T framedVertex = frameNewElementExplicit(this.getBaseGraph().addVertex(), initializer);
-        return framedVertex;
+        final Vertex vertex = this.addTypedVertex(this.untypedResolver, initializer.getInitializationType());
+        return this.frameCreatedElement(vertex, initializer);
     }
     
     @Override
@@ -358,9 +480,8 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
 
     @Override
     public <T> T addFramedEdge(final VertexFrame source, final VertexFrame destination, final String label, final ClassInitializer<T> initializer, final Object... keyValues) {
-        final Edge baseEdge = source.getElement().addEdge(label, destination.getElement(), keyValues);
-        final T framedEdge = frameNewElement(baseEdge, initializer);
-        return framedEdge;
+        final Edge edge = this.addTypedEdge(this.defaultResolver, source.getElement(), destination.getElement(), label, initializer.getInitializationType(), keyValues);
+        return this.frameCreatedElement(edge, initializer);
     }
     
     @Override
@@ -370,8 +491,8 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
 
     @Override
     public <T> T addFramedEdgeExplicit(final VertexFrame source, final VertexFrame destination, final String label, final ClassInitializer<T> initializer) {
-        final T framedEdge = frameNewElementExplicit(source.getElement().addEdge(label, destination.getElement()), initializer);
-        return framedEdge;
+        final Edge edge = this.addTypedEdge(this.untypedResolver, source.getElement(), destination.getElement(), label, initializer.getInitializationType());
+        return this.frameCreatedElement(edge, initializer);
     }
     
     @Override
@@ -390,6 +511,214 @@ public class DelegatingFramedGraph<G extends Graph> implements WrappedFramedGrap
         return addFramedEdgeExplicit(source, destination, label, TEdge.DEFAULT_INITIALIZER);
     }
 
+    /**
+     * Creates vertices in bulk without framing them. The type resolution properties are written together with the
+     * other properties when each vertex is created. Since no frames are created, neither the initializers nor the init
+     * method of the frames are called. When the graph supports transactions, they are committed every commitInterval
+     * vertices and once all vertices were created.
+     *
+     * @param specs the vertices to create.
+     * @param commitInterval the number of vertices created per transaction.
+     * @return the number of vertices created.
+     */
+    public long addFramedVertices(final Stream<? extends VertexSpec<?>> specs, final int commitInterval) {
+        return this.addFramedVertices(specs, commitInterval, null);
+    }
+
+    /**
+     * Creates vertices in bulk, framing and initializing each vertex like {@link #addFramedVertex(ClassInitializer,
+     * Object...)} when a frame consumer is given. The type resolution properties are written together with the other
+     * properties when each vertex is created. The frames are not registered with the active FrameSession. When the
+     * graph supports transactions, they are committed every commitInterval vertices and once all vertices were created.
+     *
+     * @param specs the vertices to create.
+     * @param commitInterval the number of vertices created per transaction.
+     * @param frameConsumer receives the frame of each created vertex, or null if no frames should be created.
+     * @param <T> the type of frames the vertices are created as.
+     * @return the number of vertices created.
+     */
+    public <T> long addFramedVertices(final Stream<? extends VertexSpec<? extends T>> specs, final int commitInterval, final Consumer<? super T> frameConsumer) {
+        return this.bulkAdd(specs, commitInterval, batch -> {
+            for (final VertexSpec<? extends T> spec : batch) {
+                final ClassInitializer<? extends T> initializer = spec.getInitializer();
+                final Vertex vertex = this.addTypedVertex(this.defaultResolver, initializer.getInitializationType(), spec.getKeyValues());
+                if (frameConsumer != null)
+                    frameConsumer.accept(this.frameBulkCreatedElement(vertex, initializer));
+            }
+        });
+    }
+
+    /**
+     * Creates vertices in bulk without framing them, passing the id of each created vertex along with its spec to the
+     * id consumer. This allows the ids to be collected for a subsequent {@link #addFramedEdges(Stream, int)} without
+     * the cost of creating frames. When the graph supports transactions, they are committed every commitInterval
+     * vertices and once all vertices were created.
+     *
+     * @param specs the vertices to create.
+     * @param commitInterval the number of vertices created per transaction.
+     * @param idConsumer receives each spec and the id of the vertex created for it.
+     * @param <S> the type of the vertex specs.
+     * @return the number of vertices created.
+     */
+    public <S extends VertexSpec<?>> long addFramedVerticesWithIds(final Stream<? extends S> specs, final int commitInterval, final BiConsumer<? super S, Object> idConsumer) {
+        if( idConsumer == null )
+            throw new IllegalArgumentException("idConsumer can not be null");
+
+        return this.bulkAdd(specs, commitInterval, batch -> {
+            for (final S spec : batch)
+                idConsumer.accept(spec, this.addTypedVertex(this.defaultResolver, spec.getInitializer().getInitializationType(), spec.getKeyValues()).id());
+        });
+    }
+
+    /**
+     * Creates edges in bulk between existing vertices without framing them. The type resolution properties are
+     * written together with the other properties when each edge is created. Since no frames are created, neither the
+     * initializers nor the init method of the frames are called. The vertices of up to BULK_BATCH_SIZE edges are looked
+     * up together. When the graph supports transactions, they are committed every commitInterval edges and once all
+     * edges were created.
+     *
+     * @param specs the edges to create.
+     * @param commitInterval the number of edges created per transaction.
+     * @return the number of edges created.
+     */
+    public long addFramedEdges(final Stream<? extends EdgeSpec<?>> specs, final int commitInterval) {
+        return this.addFramedEdges(specs, commitInterval, null);
+    }
+
+    /**
+     * Creates edges in bulk between existing vertices, framing and initializing each edge like
+     * {@link #addFramedEdge(VertexFrame, VertexFrame, String, ClassInitializer, Object...)} when a frame consumer is
+     * given. The type resolution properties are written together with the other properties when each edge is
+     * created. The frames are not registered with the active FrameSession. When the graph supports transactions, they
+     * are committed every commitInterval edges and once all edges were created.
+     *
+     * @param specs the edges to create.
+     * @param commitInterval the number of edges created per transaction.
+     * @param frameConsumer receives the frame of each created edge, or null if no frames should be created.
+     * @param <T> the type of frames the edges are created as.
+     * @return the number of edges created.
+     */
+    public <T> long addFramedEdges(final Stream<? extends EdgeSpec<? extends T>> specs, final int commitInterval, final Consumer<? super T> frameConsumer) {
+        return this.bulkAdd(specs, commitInterval, batch -> {
+            final Map<Object, Vertex> vertices = this.findVertices(batch);
+            for (final EdgeSpec<? extends T> spec : batch) {
+                final ClassInitializer<? extends T> initializer = spec.getInitializer();
+                final Edge edge = this.addTypedEdge(this.defaultResolver, this.findVertex(vertices, spec.getOutVertexId()), this.findVertex(vertices, spec.getInVertexId()), spec.getLabel(), initializer.getInitializationType(), spec.getKeyValues());
+                if (frameConsumer != null)
+                    frameConsumer.accept(this.frameBulkCreatedElement(edge, initializer));
+            }
+        });
+    }
+
+    /**
+     * Hands the specs to the adder in batches of at most BULK_BATCH_SIZE. Batches never span a commit, so elements
+     * looked up for a batch remain valid while it is added. Commits go through the transaction of this framed graph so
+     * the transaction state of the calling thread is reset along with the graph.
+     */
+    private <S> long bulkAdd(final Stream<? extends S> specs, final int commitInterval, final Consumer<List<S>> adder) {
+        if( specs == null )
+            throw new IllegalArgumentException("specs can not be null");
+        else if( commitInterval <= 0 )
+            throw new IllegalArgumentException("commitInterval must be positive");
+
+        final boolean transactional = this.supportsTransactions();
+        long added = 0;
+        final List<S> batch = new ArrayList<>();
+        final Iterator<? extends S> specIterator = specs.iterator();
+        while (specIterator.hasNext()) {
+            batch.add(specIterator.next());
+            final boolean commitDue = added % commitInterval + batch.size() == commitInterval;
+            if (!commitDue && batch.size() < BULK_BATCH_SIZE && specIterator.hasNext())
+                continue;
+
+            adder.accept(batch);
+            added += batch.size();
+            batch.clear();
+            if (transactional && (commitDue || !specIterator.hasNext()))
+                this.tx().commit();
+        }
+        return added;
+    }
+
+    /**
+     * Creates a vertex with its type resolution properties passed along with the other properties, so it is written
+     * at once. Resolvers which can not provide their properties upfront initialize the vertex after its creation.
+     */
+    private Vertex addTypedVertex(final TypeResolver resolver, final Class<?> kind, final Object... keyValues) {
+        final Object[] typeKeyValues = resolver.initKeyValues(kind);
+        final Vertex vertex = this.getBaseGraph().addVertex(concatKeyValues(keyValues, typeKeyValues));
+        if (typeKeyValues == null)
+            resolver.init(vertex, kind);
+        return vertex;
+    }
+
+    private Edge addTypedEdge(final TypeResolver resolver, final Vertex source, final Vertex destination, final String label, final Class<?> kind, final Object... keyValues) {
+        final Object[] typeKeyValues = resolver.initKeyValues(kind);
+        final Edge edge = source.addEdge(label, destination, concatKeyValues(keyValues, typeKeyValues));
+        if (typeKeyValues == null)
+            resolver.init(edge, kind);
+        return edge;
+    }
+
+    private <T> T frameCreatedElement(final Element element, final ClassInitializer<T> initializer) {
+        return this.initializeCreatedFrame(frameElement(element, initializer.getInitializationType()), initializer);
+    }
+
+    /**
+     * Frames an element created by a bulk load. The frame is not registered with the active FrameSession, which would
+     * otherwise grow with every element loaded.
+     */
+    private <T> T frameBulkCreatedElement(final Element element, final ClassInitializer<T> initializer) {
+        return this.initializeCreatedFrame(createFrame(element, initializer.getInitializationType()), initializer);
+    }
+
+    private <T> T initializeCreatedFrame(final T frame, final ClassInitializer<T> initializer) {
+        ((AbstractElementFrame) frame).invalidateCachedElement();
+        ((AbstractElementFrame) frame).init();
+        initializer.initalize(frame);
+        return frame;
+    }
+
+    /**
+     * Looks up the endpoints of a batch of edges at once, grouped by the type of their ids since graphs may reject
+     * mixed id types in a single lookup.
+     */
+    private Map<Object, Vertex> findVertices(final List<? extends EdgeSpec<?>> specs) {
+        final Map<Class<?>, Set<Object>> idsByType = new HashMap<>();
+        for (final EdgeSpec<?> spec : specs) {
+            idsByType.computeIfAbsent(spec.getOutVertexId().getClass(), type -> new HashSet<>()).add(spec.getOutVertexId());
+            idsByType.computeIfAbsent(spec.getInVertexId().getClass(), type -> new HashSet<>()).add(spec.getInVertexId());
+        }
+
+        final Map<Object, Vertex> vertices = new HashMap<>();
+        for (final Set<Object> ids : idsByType.values())
+            this.getBaseGraph().vertices(ids.toArray()).forEachRemaining(vertex -> vertices.put(vertex.id(), vertex));
+        return vertices;
+    }
+
+    private Vertex findVertex(final Map<Object, Vertex> vertices, final Object id) {
+        final Vertex vertex = vertices.get(id);
+        // the graph may report an id of another type than requested, such as a Long for an Integer
+        return (vertex != null ? vertex : this.findVertex(id));
+    }
+
+    private Vertex findVertex(final Object id) {
+        final Iterator<Vertex> vertices = this.getBaseGraph().vertices(id);
+        if (!vertices.hasNext())
+            throw new IllegalArgumentException("No vertex exists with the id " + id);
+        return vertices.next();
+    }
+
+    private static Object[] concatKeyValues(final Object[] keyValues, final Object[] typeKeyValues) {
+        if (keyValues == null)
+            return (typeKeyValues != null ? typeKeyValues : new Object[0]);
+        else if (typeKeyValues == null || typeKeyValues.length == 0)
+            return keyValues;
+        final Object[] allKeyValues = Arrays.copyOf(keyValues, keyValues.length + typeKeyValues.length);
+        System.arraycopy(typeKeyValues, 0, allKeyValues, keyValues.length, typeKeyValues.length);
+        return allKeyValues;
+    }
+
     @Override
     public <T extends Traversable<?, ?>> T traverse(final Function<GraphTraversalSource, GraphTraversal<?, ?>> traverser) {
         return (T) new DefaultTraversable(traverser.apply(this.getBaseGraph().traversal()), this);
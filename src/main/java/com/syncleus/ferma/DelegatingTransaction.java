@@ -36,12 +36,33 @@ public class DelegatingTransaction implements WrappedTransaction {
 
     @Override
     public void commit() {
-        this.getDelegate().commit();
+        try {
+            this.getDelegate().commit();
+        }
+        finally {
+            endTransaction();
+        }
     }
 
     @Override
     public void rollback() {
-        this.getDelegate().rollback();
+        try {
+            this.getDelegate().rollback();
+        }
+        finally {
+            endTransaction();
+        }
+    }
+
+    /**
+     * Forgets the state the current thread kept for the transaction which just ended: the frames of the active
+     * FrameSession, which may carry state of discarded writes, and everything tied to the TransactionEpoch.
+     */
+    private static void endTransaction() {
+        final FrameSession session = FrameSession.getActive();
+        if (session != null)
+            session.clear();
+        TransactionEpoch.advance();
     }
 
     @Override
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+/**
+ * Describes an edge to be created by a bulk load between two existing vertices.
+ *
+ * @param <C> The type of frame the edge is created as.
+ */
+public class EdgeSpec<C> {
+    private final Object outVertexId;
+    private final Object inVertexId;
+    private final String label;
+    private final ClassInitializer<C> initializer;
+    private final Object[] keyValues;
+
+    /**
+     * @param outVertexId the id of the vertex the edge starts at.
+     * @param inVertexId the id of the vertex the edge ends at.
+     * @param label the label of the edge.
+     * @param initializer the initializer defining the type of the edge.
+     * @param keyValues the properties of the edge as alternating keys and values.
+     */
+    public EdgeSpec(final Object outVertexId, final Object inVertexId, final String label, final ClassInitializer<C> initializer, final Object... keyValues) {
+        if( outVertexId == null || inVertexId == null )
+            throw new IllegalArgumentException("vertex ids can not be null");
+        else if( label == null )
+            throw new IllegalArgumentException("label can not be null");
+        else if( initializer == null )
+            throw new IllegalArgumentException("initializer can not be null");
+
+        this.outVertexId = outVertexId;
+        this.inVertexId = inVertexId;
+        this.label = label;
+        this.initializer = initializer;
+        this.keyValues = (keyValues != null ? keyValues : new Object[0]);
+    }
+
+    /**
+     * @param outVertexId the id of the vertex the edge starts at.
+     * @param inVertexId the id of the vertex the edge ends at.
+     * @param label the label of the edge.
+     * @param kind the type of the edge.
+     * @param keyValues the properties of the edge as alternating keys and values.
+     */
+    public EdgeSpec(final Object outVertexId, final Object inVertexId, final String label, final Class<C> kind, final Object... keyValues) {
+        this(outVertexId, inVertexId, label, new DefaultClassInitializer<>(kind), keyValues);
+    }
+
+    public Object getOutVertexId() {
+        return outVertexId;
+    }
+
+    public Object getInVertexId() {
+        return inVertexId;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public ClassInitializer<C> getInitializer() {
+        return initializer;
+    }
+
+    public Object[] getKeyValues() {
+        return keyValues;
+    }
+}
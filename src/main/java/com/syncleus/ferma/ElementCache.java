@@ -0,0 +1,72 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.syncleus.ferma.typeresolvers.TypeResolver;
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+/**
+ * A cache of element state shared across transactions, consulted by a framed graph before reading the properties or
+ * resolving the frame type of an element. Writes made through frames invalidate the affected element, changes made
+ * to the graph by other means are only seen once the element is invalidated or evicted.
+ */
+public interface ElementCache {
+
+    /**
+     * Returns the snapshot of an element, reading it from the element if it is not cached.
+     *
+     * @param element the element.
+     * @return the snapshot of the element.
+     */
+    ElementSnapshot getSnapshot(Element element);
+
+    /**
+     * Returns the frame type of an element framed as the given kind, resolving it if it is not cached.
+     *
+     * @param element the element.
+     * @param kind the kind requested.
+     * @param resolver the type resolver used when the frame type is not cached.
+     * @param <T> the kind requested.
+     * @return the frame type of the element.
+     */
+    <T> Class<? extends T> getFrameType(Element element, Class<T> kind, TypeResolver resolver);
+
+    /**
+     * Removes all state cached for an element.
+     *
+     * @param element the element.
+     */
+    void invalidate(Element element);
+
+    /**
+     * Removes all cached state.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return the hit count.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups which had to read the element.
+     *
+     * @return the miss count.
+     */
+    long getMissCount();
+}
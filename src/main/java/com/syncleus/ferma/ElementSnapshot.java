@@ -0,0 +1,84 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable copy of the properties of an element at the time it was read.
+ */
+public final class ElementSnapshot {
+    private final Set<String> keys;
+    private final Map<String, Object> values;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param keys the keys of all properties of the element.
+     * @param values the values of the properties holding a single value.
+     */
+    public ElementSnapshot(final Set<String> keys, final Map<String, Object> values) {
+        this.keys = Collections.unmodifiableSet(new HashSet<>(keys));
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+    }
+
+    /**
+     * Reads all properties of an element into a snapshot.
+     *
+     * @param element the element to read.
+     * @return the snapshot of the element.
+     */
+    public static ElementSnapshot of(final Element element) {
+        final Set<String> keys = new HashSet<>();
+        final Map<String, Object> values = new HashMap<>();
+        final Iterator<? extends Property<Object>> properties = element.properties();
+        while (properties.hasNext()) {
+            final Property<Object> property = properties.next();
+            if (keys.add(property.key()))
+                values.put(property.key(), property.value());
+            else
+                values.remove(property.key());
+        }
+        return new ElementSnapshot(keys, values);
+    }
+
+    /**
+     * Returns the keys of all properties of the element.
+     *
+     * @return the property keys.
+     */
+    public Set<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns the values of the properties holding a single value. Keys with multiple values are not included and have
+     * to be read from the element.
+     *
+     * @return the single property values by key.
+     */
+    public Map<String, Object> getValues() {
+        return values;
+    }
+}
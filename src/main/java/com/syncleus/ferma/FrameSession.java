@@ -0,0 +1,140 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An identity map of the frames created within a unit of work, such as a transaction. While a session is active on a
+ * thread, framing an element which was already framed as the same kind returns the same frame instance, without
+ * resolving its type again. Elements framed as different kinds which resolve to the same frame type also share their
+ * frame. Frames are kept until the session is cleared, so it should be scoped to a single transaction.
+ */
+public class FrameSession {
+    private static final ThreadLocal<FrameSession> ACTIVE = new ThreadLocal<>();
+
+    private final Map<Element, Map<Key, Object>> frames = new HashMap<>();
+
+    /**
+     * Returns the session active on the current thread.
+     *
+     * @return the active session, or null if there is none.
+     */
+    public static FrameSession getActive() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * Activates a session on the current thread.
+     *
+     * @param session the session to activate, or null to deactivate the current session.
+     */
+    public static void setActive(final FrameSession session) {
+        if (session == null)
+            ACTIVE.remove();
+        else
+            ACTIVE.set(session);
+    }
+
+    /**
+     * Returns the frame registered for an element framed as the given kind.
+     *
+     * @param graph the graph framing the element.
+     * @param element the element being framed.
+     * @param kind the kind requested.
+     * @param explicit true if the type resolution was bypassed, false otherwise.
+     * @param <T> the kind requested.
+     * @return the registered frame, or null if the element was not framed as the kind yet.
+     */
+    public <T> T get(final FramedGraph graph, final Element element, final Class<T> kind, final boolean explicit) {
+        final Map<Key, Object> elementFrames = this.frames.get(element);
+        return (elementFrames != null ? (T) elementFrames.get(new Key(graph, kind, explicit)) : null);
+    }
+
+    /**
+     * Registers a frame created for an element framed as the given kind. If a frame of the same type was already
+     * registered for the element, that frame is kept and returned instead.
+     *
+     * @param graph the graph framing the element.
+     * @param element the element being framed.
+     * @param kind the kind requested.
+     * @param explicit true if the type resolution was bypassed, false otherwise.
+     * @param frame the frame created for the element.
+     * @param <T> the kind requested.
+     * @return the frame to use for the element.
+     */
+    public <T> T register(final FramedGraph graph, final Element element, final Class<T> kind, final boolean explicit, final T frame) {
+        final Map<Key, Object> elementFrames = this.frames.computeIfAbsent(element, key -> new HashMap<>());
+        final T registered = (T) elementFrames.computeIfAbsent(new Key(graph, frame.getClass(), null), key -> frame);
+        elementFrames.put(new Key(graph, kind, explicit), registered);
+        return registered;
+    }
+
+    /**
+     * Forgets all frames of an element, for example after it was removed or its type changed.
+     *
+     * @param element the element to forget.
+     */
+    public void evict(final Element element) {
+        this.frames.remove(element);
+    }
+
+    /**
+     * Returns the number of elements with registered frames.
+     *
+     * @return the number of framed elements.
+     */
+    public int size() {
+        return this.frames.size();
+    }
+
+    /**
+     * Forgets all registered frames.
+     */
+    public void clear() {
+        this.frames.clear();
+    }
+
+    private static final class Key {
+        private final FramedGraph graph;
+        private final Class<?> type;
+        private final Boolean explicit;
+
+        Key(final FramedGraph graph, final Class<?> type, final Boolean explicit) {
+            this.graph = graph;
+            this.type = type;
+            this.explicit = explicit;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(this.graph) + this.type.hashCode()) + (this.explicit != null ? this.explicit.hashCode() : 0);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            final Key other = (Key) o;
+            return this.graph == other.graph && this.type == other.type && (this.explicit == null ? other.explicit == null : this.explicit.equals(other.explicit));
+        }
+    }
+}
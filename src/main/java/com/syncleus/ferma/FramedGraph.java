@@ -33,6 +33,27 @@ public interface FramedGraph extends AutoCloseable {
 
     FrameFactory getBuilder();
 
+    /**
+     * Returns the cache consulted by frames of this graph before reading the properties or resolving the frame type of
+     * an element.
+     *
+     * @return the element cache, or null if elements are always read from the graph.
+     */
+    default ElementCache getElementCache() {
+        return null;
+    }
+
+    /**
+     * Determines how traversals of frames start. When enabled, the traversals of a frame start from its bound element
+     * injected into the traversal, instead of looking the element up again by its id. This avoids a lookup for every
+     * traversal of a frame, but requires a graph able to traverse from elements which are injected.
+     *
+     * @return true if frame traversals start from the bound element, false if they look it up by id.
+     */
+    default boolean isInjectingElements() {
+        return false;
+    }
+
     /**
      * Close the delegate graph.
      *
@@ -0,0 +1,132 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.syncleus.ferma.annotations.GraphElement;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A resource listing the graph element types of a model, written at build time so a {@link ReflectionCache} can be
+ * created without scanning the classpath. The type hierarchy is not stored, it is derived from the listed classes
+ * when they are loaded.
+ *
+ * The main method is intended to be run as a build step after compilation, for example through the exec-maven-plugin
+ * in the process-classes phase, with the class output directory followed by the model packages to scan.
+ */
+public final class GraphElementIndex {
+    /**
+     * The location of the index resource, every class path entry may contain one.
+     */
+    public static final String RESOURCE = "META-INF/ferma/graph-elements";
+
+    private GraphElementIndex() {
+    }
+
+    /**
+     * Writes the index resource listing the given types into the output directory.
+     *
+     * @param types the graph element types of the model.
+     * @param outputDirectory the root directory of the class output.
+     * @throws IOException if the index could not be written.
+     */
+    public static void write(final Collection<? extends Class<?>> types, final File outputDirectory) throws IOException {
+        final Set<String> typeNames = new TreeSet<>();
+        for (final Class<?> type : types)
+            typeNames.add(type.getName());
+
+        final File indexFile = new File(outputDirectory, RESOURCE);
+        Files.createDirectories(indexFile.getParentFile().toPath());
+        try (final Writer writer = Files.newBufferedWriter(indexFile.toPath(), StandardCharsets.UTF_8)) {
+            for (final String typeName : typeNames) {
+                writer.write(typeName);
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Loads the types listed by all index resources visible to the class loader.
+     *
+     * @param classLoader the class loader the index resources and types are loaded from.
+     * @return the indexed types.
+     * @throws IllegalStateException if no index resource exists or a listed class cannot be found.
+     */
+    public static Set<Class<?>> read(final ClassLoader classLoader) {
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        boolean indexFound = false;
+        try {
+            final Enumeration<URL> indexes = classLoader.getResources(RESOURCE);
+            while (indexes.hasMoreElements()) {
+                indexFound = true;
+                try (final BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    String typeName;
+                    while ((typeName = reader.readLine()) != null) {
+                        typeName = typeName.trim();
+                        if (!typeName.isEmpty() && !typeName.startsWith("#"))
+                            types.add(loadClass(typeName, classLoader));
+                    }
+                }
+            }
+        }
+        catch (final IOException caught) {
+            throw new UncheckedIOException("The graph element index could not be read", caught);
+        }
+
+        if (!indexFound)
+            throw new IllegalStateException("No graph element index " + RESOURCE + " was found");
+        return types;
+    }
+
+    private static Class<?> loadClass(final String typeName, final ClassLoader classLoader) {
+        try {
+            return Class.forName(typeName, false, classLoader);
+        }
+        catch (final ClassNotFoundException e) {
+            throw new IllegalStateException("The class " + typeName + " cannot be found");
+        }
+    }
+
+    /**
+     * Writes the index of every type annotated with {@link GraphElement} in the given packages.
+     *
+     * @param args the output directory followed by one or more model packages.
+     * @throws IOException if the index could not be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2)
+            throw new IllegalArgumentException("usage: GraphElementIndex <output directory> <model package>...");
+
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        for (final String modelPackage : Arrays.asList(args).subList(1, args.length))
+            types.addAll(new ReflectionCache(modelPackage).getGraphElementTypes());
+        write(types, new File(args[0]));
+    }
+}
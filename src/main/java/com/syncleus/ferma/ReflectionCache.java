@@ -15,6 +15,7 @@
  */
 package com.syncleus.ferma;
 
+import com.google.common.cache.CacheBuilder;
 import com.syncleus.ferma.annotations.GraphElement;
 import org.reflections.Reflections;
 import org.reflections.scanners.SubTypesScanner;
@@ -26,58 +27,149 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class ReflectionCache extends Reflections {
 
-    private final Map<String, Set<String>> hierarchy;
-    private final Map<Method, Map<Class<Annotation>, Annotation>> annotationCache = new HashMap<>();
-    private final Map<String, Class> classStringCache = new HashMap<>();
+    /**
+     * Passed as the maximum cache size to leave the annotation and class lookup caches unbounded.
+     */
+    public static final long UNBOUNDED = -1;
+
+    private final Set<Class<?>> graphElementTypes = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, Set<String>> hierarchy = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, Annotation[]> annotationCache;
+    private final ConcurrentMap<String, Class> classStringCache;
 
     public ReflectionCache() {
+        this(UNBOUNDED);
+    }
+
+    /**
+     * Creates an empty reflection cache whose lookup caches hold at most the given number of entries each. Bounded
+     * caches track the use of their entries, which makes lookups slower than in the unbounded default.
+     *
+     * @param maximumCacheSize the maximum number of entries in each lookup cache, or {@link #UNBOUNDED}.
+     */
+    public ReflectionCache(final long maximumCacheSize) {
         super();
 
-        this.hierarchy = new HashMap<>();
+        this.annotationCache = createCache(maximumCacheSize);
+        this.classStringCache = createCache(maximumCacheSize);
     }
 
     public ReflectionCache(final Collection<? extends Class<?>> annotatedTypes) {
+        this(annotatedTypes, UNBOUNDED);
+    }
+
+    /**
+     * Creates a reflection cache for the given types whose lookup caches hold at most the given number of entries
+     * each. Bounding the caches is useful when classes are frequently loaded and unloaded.
+     *
+     * @param annotatedTypes the types to be considered for type resolution.
+     * @param maximumCacheSize the maximum number of entries in each lookup cache, or {@link #UNBOUNDED}.
+     */
+    public ReflectionCache(final Collection<? extends Class<?>> annotatedTypes, final long maximumCacheSize) {
         super(assembleConfig(assembleClassUrls(annotatedTypes)));
 
-        this.hierarchy = constructHierarchy(annotatedTypes);
+        this.index(annotatedTypes);
+        this.annotationCache = createCache(maximumCacheSize);
+        this.classStringCache = createCache(maximumCacheSize);
+    }
+
+    /**
+     * Creates a reflection cache for the types listed in the {@link GraphElementIndex} resources visible to the class
+     * loader, without scanning the classpath.
+     *
+     * @param classLoader the class loader the index and the types are loaded from.
+     */
+    public ReflectionCache(final ClassLoader classLoader) {
+        this(classLoader, UNBOUNDED);
+    }
+
+    /**
+     * Creates a reflection cache for the types listed in the {@link GraphElementIndex} resources visible to the class
+     * loader, without scanning the classpath, whose lookup caches hold at most the given number of entries each.
+     *
+     * @param classLoader the class loader the index and the types are loaded from.
+     * @param maximumCacheSize the maximum number of entries in each lookup cache, or {@link #UNBOUNDED}.
+     */
+    public ReflectionCache(final ClassLoader classLoader, final long maximumCacheSize) {
+        super();
+
+        if( classLoader == null )
+            throw new IllegalArgumentException("classLoader can not be null");
+
+        this.index(GraphElementIndex.read(classLoader));
+        this.annotationCache = createCache(maximumCacheSize);
+        this.classStringCache = createCache(maximumCacheSize);
     }
 
     public ReflectionCache(final String modelPackage) {
+        this(modelPackage, UNBOUNDED);
+    }
+
+    /**
+     * Creates a reflection cache for the types in the given package whose lookup caches hold at most the given number
+     * of entries each. Bounding the caches is useful when classes are frequently loaded and unloaded.
+     *
+     * @param modelPackage the package scanned for classes to be considered for type resolution.
+     * @param maximumCacheSize the maximum number of entries in each lookup cache, or {@link #UNBOUNDED}.
+     */
+    public ReflectionCache(final String modelPackage, final long maximumCacheSize) {
         super(modelPackage);
 
-        this.hierarchy = constructHierarchy(this.getTypesAnnotatedWith(GraphElement.class));
+        this.index(this.getTypesAnnotatedWith(GraphElement.class));
+        this.annotationCache = createCache(maximumCacheSize);
+        this.classStringCache = createCache(maximumCacheSize);
+    }
+
+    /**
+     * The types this cache was built from, these are the types considered for type resolution.
+     *
+     * @return the known graph element types.
+     */
+    public Set<? extends Class<?>> getGraphElementTypes() {
+        return Collections.unmodifiableSet(this.graphElementTypes);
+    }
+
+    /**
+     * Adds types to be considered for type resolution after construction. Only the supertypes of the new types are
+     * visited, the hierarchy of the types already known is not rebuilt.
+     *
+     * @param types the types to be considered for type resolution.
+     */
+    public void register(final Collection<? extends Class<?>> types) {
+        if( types == null )
+            throw new IllegalArgumentException("types can not be null");
+
+        this.index(types);
     }
 
     public Set<? extends String> getSubTypeNames(final Class<?> type) {
-        Set<String> subtypes = this.hierarchy.get(type.getName());
-        if (subtypes == null)
-            subtypes = Collections.singleton(type.getName());
-        return Collections.unmodifiableSet(subtypes);
+        return this.getSubTypeNames(type.getName());
     }
 
     public Set<? extends String> getSubTypeNames(final String typeName) {
-        Set<String> subtypes = this.hierarchy.get(typeName);
-        if (subtypes == null)
-            subtypes = Collections.singleton(typeName);
+        final Set<String> subtypes = this.hierarchy.get(typeName);
+        //the index also holds supertypes which are not graph element types themselves, these resolve to themselves only
+        if (subtypes == null || !subtypes.contains(typeName))
+            return Collections.singleton(typeName);
         return Collections.unmodifiableSet(subtypes);
     }
 
     public <E extends Annotation> E getAnnotation(final Method method, final Class<E> annotationType) {
-        Map<Class<Annotation>, Annotation> annotationsPresent = annotationCache.get(method);
+        Annotation[] annotationsPresent = annotationCache.get(method);
         if (annotationsPresent == null) {
-            annotationsPresent = new HashMap<>();
-            annotationCache.put(method, annotationsPresent);
+            annotationsPresent = method.getAnnotations();
+            annotationCache.putIfAbsent(method, annotationsPresent);
         }
 
-        E annotation = (E) annotationsPresent.get(annotationType);
-        if (annotation == null) {
-            annotation = method.getAnnotation(annotationType);
-            annotationsPresent.put((Class<Annotation>) annotationType, annotation);
-        }
-        return annotation;
+        for (final Annotation annotation : annotationsPresent)
+            if (annotation.annotationType() == annotationType)
+                return (E) annotation;
+        return null;
     }
 
     public Class forName(final String className) {
@@ -85,7 +177,7 @@ public class ReflectionCache extends Reflections {
         if (type == null)
             try {
                 type = Class.forName(className);
-                classStringCache.put(className, type);
+                classStringCache.putIfAbsent(className, type);
             }
             catch (final ClassNotFoundException e) {
                 throw new IllegalStateException("The class " + className + " cannot be found");
@@ -93,6 +185,14 @@ public class ReflectionCache extends Reflections {
         return type;
     }
 
+    private static <K, V> ConcurrentMap<K, V> createCache(final long maximumCacheSize) {
+        if (maximumCacheSize == UNBOUNDED)
+            return new ConcurrentHashMap<>();
+        else if (maximumCacheSize < 0)
+            throw new IllegalArgumentException("maximumCacheSize must not be negative unless UNBOUNDED");
+        return CacheBuilder.newBuilder().maximumSize(maximumCacheSize).<K, V>build().asMap();
+    }
+
     private static ConfigurationBuilder assembleConfig(final Set<URL> toScanUrls) {
         final ConfigurationBuilder reflectionConfig = new ConfigurationBuilder();
         reflectionConfig.addUrls(toScanUrls);
@@ -119,21 +219,31 @@ public class ReflectionCache extends Reflections {
         return toScanUrls;
     }
 
-    private static Map<String, Set<String>> constructHierarchy(final Collection<? extends Class<?>> types) {
-        final Map<String, Set<String>> hierarchy = new HashMap<>();
-
-        for (final Class<?> parentType : types) {
-            Set<String> children = hierarchy.get(parentType.getName());
-            if (children == null) {
-                children = new HashSet<>();
-                hierarchy.put(parentType.getName(), children);
-            }
+    /**
+     * Adds each new type to the subtypes of itself and of every one of its supertypes. The index is keyed by all
+     * supertypes, including those which are not graph element types, so types registered later find their already
+     * known subtypes without scanning them.
+     */
+    private synchronized void index(final Collection<? extends Class<?>> types) {
+        for (final Class<?> type : types)
+            if (this.graphElementTypes.add(type))
+                for (final Class<?> superType : collectSuperTypes(type))
+                    this.hierarchy.computeIfAbsent(superType.getName(), key -> ConcurrentHashMap.newKeySet()).add(type.getName());
+    }
 
-            for (final Class<?> childType : types)
-                if (parentType.isAssignableFrom(childType))
-                    children.add(childType.getName());
+    private static Set<Class<?>> collectSuperTypes(final Class<?> type) {
+        final Set<Class<?>> superTypes = new HashSet<>();
+        final Deque<Class<?>> toVisit = new ArrayDeque<>();
+        toVisit.push(type);
+        while (!toVisit.isEmpty()) {
+            final Class<?> current = toVisit.pop();
+            if (!superTypes.add(current))
+                continue;
+            if (current.getSuperclass() != null)
+                toVisit.push(current.getSuperclass());
+            for (final Class<?> implemented : current.getInterfaces())
+                toVisit.push(implemented);
         }
-
-        return hierarchy;
+        return superTypes;
     }
 }
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Identifies the transaction currently used by a thread. State cached by frames is only valid while the epoch it was
+ * recorded in is still the current epoch of the reading thread, a new epoch starts whenever a transaction is committed
+ * or rolled back through a {@link DelegatingTransaction}. Commits made directly on the underlying graph do not start
+ * a new epoch.
+ */
+public final class TransactionEpoch {
+    private static final ThreadLocal<TransactionEpoch> CURRENT = ThreadLocal.withInitial(TransactionEpoch::new);
+
+    private Map<ElementCache, Set<Element>> dirtyElements;
+
+    private TransactionEpoch() {
+    }
+
+    /**
+     * Returns the epoch of the transaction currently used by the calling thread.
+     *
+     * @return the current epoch, compared by identity.
+     */
+    public static TransactionEpoch current() {
+        return CURRENT.get();
+    }
+
+    static void advance() {
+        final TransactionEpoch ended = CURRENT.get();
+        CURRENT.set(new TransactionEpoch());
+        ended.invalidateDirtyElements();
+    }
+
+    /**
+     * Records an element written through a frame during this epoch. The element is invalidated in the cache once the
+     * epoch ends, when the write is either committed or rolled back.
+     *
+     * @param cache the element cache shared with other transactions.
+     * @param element the written element.
+     */
+    void markDirty(final ElementCache cache, final Element element) {
+        if( this.dirtyElements == null )
+            this.dirtyElements = new IdentityHashMap<>();
+        this.dirtyElements.computeIfAbsent(cache, key -> new HashSet<>()).add(element);
+    }
+
+    /**
+     * Determines if an element was written through the given cache during this epoch. Such a transaction neither reads
+     * from nor fills the cache, so its uncommitted writes are never seen by other transactions.
+     *
+     * @param cache the element cache shared with other transactions.
+     * @return true if an element was written during this epoch.
+     */
+    boolean isDirty(final ElementCache cache) {
+        return this.dirtyElements != null && this.dirtyElements.containsKey(cache);
+    }
+
+    private void invalidateDirtyElements() {
+        if( this.dirtyElements == null )
+            return;
+        for (final Map.Entry<ElementCache, Set<Element>> dirty : this.dirtyElements.entrySet())
+            for (final Element element : dirty.getValue())
+                dirty.getKey().invalidate(element);
+        this.dirtyElements = null;
+    }
+}
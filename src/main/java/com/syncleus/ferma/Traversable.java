@@ -20,6 +20,8 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 public interface Traversable<PE, E> {
     <T extends Traversable<?, ?>> T traverse(final Function<GraphTraversal<PE, E>, GraphTraversal<?,?>> traverser);
@@ -195,7 +197,104 @@ public interface Traversable<PE, E> {
     <N> Iterator<? extends N> frameExplicit(Class<N> kind);
 
     /**
-     * Return a list of all the objects in the pipeline.
+     * Return an iterator of framed elements whose Property annotated getters are served from a snapshot. The property
+     * keys declared by the kind are fetched for all elements within the pipeline using a single valueMap step, instead
+     * of one property lookup per getter call. Properties written through the frame update its snapshot, which is
+     * dropped once the transaction of the current thread is committed or rolled back. Properties with multiple values,
+     * and keys declared only by a resolved subtype, are still read from the element.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return An iterator of framed elements with prefetched properties.
+     */
+    <N> Iterator<N> framePrefetched(Class<N> kind);
+
+    /**
+     * Return an iterator of framed elements whose Property annotated getters are served from a snapshot. The property
+     * keys declared by the kind are fetched for all elements within the pipeline using a single valueMap step, instead
+     * of one property lookup per getter call. Properties written through the frame update its snapshot, which is
+     * dropped once the transaction of the current thread is committed or rolled back. Properties with multiple values
+     * are still read from the element.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return An iterator of framed elements with prefetched properties.
+     */
+    <N> Iterator<N> framePrefetchedExplicit(Class<N> kind);
+
+    /**
+     * Return an iterator of framed elements which reuses frame instances instead of allocating a new frame for every
+     * element. Each call to next() rebinds a previously returned frame of the same resolved type to the next element,
+     * so a frame is only valid until the following call to next() and must not be retained. This is intended for
+     * large scans where each frame is discarded right after use. Reused frames are never shared through the active
+     * FrameSession.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return An iterator of reused framed elements.
+     */
+    <N> Iterator<N> frameFlyweight(Class<N> kind);
+
+    /**
+     * Return an iterator of framed elements which reuses a single frame instance instead of allocating a new frame for
+     * every element. Each call to next() rebinds the frame to the next element, so a frame is only valid until the
+     * following call to next() and must not be retained. The reused frame is never shared through the active
+     * FrameSession.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return An iterator of a reused framed element.
+     */
+    <N> Iterator<N> frameFlyweightExplicit(Class<N> kind);
+
+    /**
+     * Return a stream of framed elements backed by the pipeline. Elements are pulled from the pipeline and framed as
+     * the stream is consumed, so short-circuiting operations only frame the elements they need. A parallel stream
+     * instead drains the pipeline and resolves the frame type of every element on the thread consuming it, within the
+     * transaction of that thread, and then constructs the frames concurrently like toListParallel. Frames the active
+     * FrameSession already holds are reused, but frames constructed by a parallel stream are not registered with it.
+     * Closing the stream closes the pipeline.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return a stream of framed elements.
+     */
+    <N> Stream<N> stream(Class<N> kind);
+
+    /**
+     * Return a stream of framed elements backed by the pipeline. Elements are pulled from the pipeline and framed as
+     * the stream is consumed, so short-circuiting operations only frame the elements they need. A parallel stream
+     * instead drains the pipeline and resolves the frame type of every element on the thread consuming it, within the
+     * transaction of that thread, and then constructs the frames concurrently like toListParallel. Frames the active
+     * FrameSession already holds are reused, but frames constructed by a parallel stream are not registered with it.
+     * Closing the stream closes the pipeline.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @return a stream of framed elements.
+     */
+    <N> Stream<N> streamExplicit(Class<N> kind);
+
+    /**
+     * Return a list of all the objects in the pipeline. Every element is framed once when the list is created.
      *
      * @param <N> The type used to frame the element
      * @param kind
@@ -205,7 +304,7 @@ public interface Traversable<PE, E> {
     <N> List<? extends N> toList(Class<N> kind);
 
     /**
-     * Return a list of all the objects in the pipeline.
+     * Return a list of all the objects in the pipeline. Every element is framed once when the list is created.
      *
      * This will bypass the default type resolution and use the untyped resolver
      * instead. This method is useful for speeding up a look up when type resolution
@@ -218,6 +317,40 @@ public interface Traversable<PE, E> {
      */
     <N> List<? extends N> toListExplicit(Class<N> kind);
 
+    /**
+     * Return a list of all the objects in the pipeline. The pipeline is drained and the frame type of every element is
+     * resolved on the calling thread, within its transaction, after which the construction of the frames of large
+     * results is split into chunks run on the given executor, such as ForkJoinPool.commonPool(). The new frames are
+     * registered with the FrameSession of the calling thread. The order of the pipeline is preserved.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param executor
+     *            The executor the elements are framed on.
+     * @return a list of all the objects
+     */
+    <N> List<? extends N> toListParallel(Class<N> kind, Executor executor);
+
+    /**
+     * Return a list of all the objects in the pipeline. The pipeline is drained on the calling thread, after which the
+     * construction of the frames of large results is split into chunks run on the given executor, such as
+     * ForkJoinPool.commonPool(). The new frames are registered with the FrameSession of the calling thread. The order
+     * of the pipeline is preserved.
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param executor
+     *            The executor the elements are framed on.
+     * @return a list of all the objects
+     */
+    <N> List<? extends N> toListParallelExplicit(Class<N> kind, Executor executor);
+
     /**
      * Return a set of all the objects in the pipeline.
      *
@@ -241,4 +374,34 @@ public interface Traversable<PE, E> {
      * @return a set of all the objects
      */
     <N> Set<? extends N> toSetExplicit(Class<N> kind);
+
+    /**
+     * Return a set of all the objects in the pipeline, framed on the given executor as described by
+     * toListParallel(Class, Executor).
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param executor
+     *            The executor the elements are framed on.
+     * @return a set of all the objects
+     */
+    <N> Set<? extends N> toSetParallel(Class<N> kind, Executor executor);
+
+    /**
+     * Return a set of all the objects in the pipeline, framed on the given executor as described by
+     * toListParallelExplicit(Class, Executor).
+     *
+     * This will bypass the default type resolution and use the untyped resolver
+     * instead. This method is useful for speeding up a look up when type resolution
+     * isn't required.
+     *
+     * @param <N> The type used to frame the element
+     * @param kind
+     *            The kind of framed elements to return.
+     * @param executor
+     *            The executor the elements are framed on.
+     * @return a set of all the objects
+     */
+    <N> Set<? extends N> toSetParallelExplicit(Class<N> kind, Executor executor);
 }
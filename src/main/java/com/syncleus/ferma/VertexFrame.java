@@ -150,7 +150,9 @@ public interface VertexFrame extends ElementFrame {
     void linkBoth(VertexFrame vertex, String... labels);
 
     /**
-     * Remove all out edges to the supplied vertex with the supplied labels.
+     * Remove all out edges to the supplied vertex with the supplied labels. The edges are filtered and dropped by a
+     * single traversal, which providers can evaluate next to the data, but which is slower than iterating the edges
+     * on in-memory graphs.
      *
      * @param vertex
      *            The vertex to removed the edges to.
@@ -160,7 +162,9 @@ public interface VertexFrame extends ElementFrame {
     void unlinkOut(VertexFrame vertex, String... labels);
 
     /**
-     * Remove all in edges to the supplied vertex with the supplied labels.
+     * Remove all in edges to the supplied vertex with the supplied labels. The edges are filtered and dropped by a
+     * single traversal, which providers can evaluate next to the data, but which is slower than iterating the edges
+     * on in-memory graphs.
      *
      * @param vertex
      *            The vertex to removed the edges from.
@@ -179,6 +183,61 @@ public interface VertexFrame extends ElementFrame {
      */
     void unlinkBoth(VertexFrame vertex, String... labels);
 
+    /**
+     * Count the out edges with the supplied labels without framing the adjacent vertices.
+     *
+     * @param labels
+     *            The labels of the edges, or none to count every out edge.
+     * @return The number of out edges.
+     */
+    long countOut(String... labels);
+
+    /**
+     * Count the in edges with the supplied labels without framing the adjacent vertices.
+     *
+     * @param labels
+     *            The labels of the edges, or none to count every in edge.
+     * @return The number of in edges.
+     */
+    long countIn(String... labels);
+
+    /**
+     * Count the in and out edges with the supplied labels without framing the adjacent vertices. An edge from this
+     * vertex to itself is counted twice.
+     *
+     * @param labels
+     *            The labels of the edges, or none to count every edge.
+     * @return The number of in and out edges.
+     */
+    long countBoth(String... labels);
+
+    /**
+     * Checks for an out edge with the supplied labels, stopping at the first edge found.
+     *
+     * @param labels
+     *            The labels of the edges, or none to accept any out edge.
+     * @return True if there is at least one out edge.
+     */
+    boolean hasOut(String... labels);
+
+    /**
+     * Checks for an in edge with the supplied labels, stopping at the first edge found.
+     *
+     * @param labels
+     *            The labels of the edges, or none to accept any in edge.
+     * @return True if there is at least one in edge.
+     */
+    boolean hasIn(String... labels);
+
+    /**
+     * Checks for an in or out edge with the supplied labels, stopping at the first edge found.
+     *
+     * @param labels
+     *            The labels of the edges, or none to accept any edge.
+     * @return True if there is at least one in or out edge.
+     */
+    boolean hasBoth(String... labels);
+
     /**
      * Remove all out edges with the labels and then add a single edge to the
      * supplied vertex.
@@ -0,0 +1,54 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+/**
+ * Describes a vertex to be created by a bulk load.
+ *
+ * @param <C> The type of frame the vertex is created as.
+ */
+public class VertexSpec<C> {
+    private final ClassInitializer<C> initializer;
+    private final Object[] keyValues;
+
+    /**
+     * @param initializer the initializer defining the type of the vertex.
+     * @param keyValues the properties of the vertex as alternating keys and values.
+     */
+    public VertexSpec(final ClassInitializer<C> initializer, final Object... keyValues) {
+        if( initializer == null )
+            throw new IllegalArgumentException("initializer can not be null");
+
+        this.initializer = initializer;
+        this.keyValues = (keyValues != null ? keyValues : new Object[0]);
+    }
+
+    /**
+     * @param kind the type of the vertex.
+     * @param keyValues the properties of the vertex as alternating keys and values.
+     */
+    public VertexSpec(final Class<C> kind, final Object... keyValues) {
+        this(new DefaultClassInitializer<>(kind), keyValues);
+    }
+
+    public ClassInitializer<C> getInitializer() {
+        return initializer;
+    }
+
+    public Object[] getKeyValues() {
+        return keyValues;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.syncleus.ferma.annotations;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 
 import java.lang.annotation.ElementType;
@@ -33,6 +34,21 @@ import java.lang.annotation.Target;
  * When annotating a get* class it ensures it only returns nodes of the specified type (including sub-classes). Any
  * Nodes which are not of this type will not be returned.
  *
+ * Iterator&lt;T&gt; get*(long offset, long limit)
+ * Iterator&lt;T&gt; get*(Class&lt;T&gt; type, long offset, long limit)
+ *
+ * A getter returning an Iterator, List or Set may take an offset and a limit, either as long or int, to return a
+ * single page of the vertices. The page is selected by the graph, ordered by the vertex property orderBy or the edge
+ * property orderByEdge when either is set.
+ *
+ * long count*()
+ * int count*()
+ * boolean count*()
+ *
+ * A count* method, or any method with the COUNT operation, returns the number of edges making the adjacency, or
+ * whether there is any such edge when it returns a boolean, without framing the adjacent vertices. A method is only
+ * taken for a count by its name when it returns a long, an int or a boolean.
+ *
  * @since 2.0.0
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -55,6 +71,29 @@ public @interface Adjacency {
      */
     Direction direction() default Direction.OUT;
 
+    /**
+     * The property the adjacent vertices returned by a paged getter are ordered by. When empty they are left in the
+     * order the graph returns them, which is not guaranteed to be stable between calls.
+     *
+     * @return the property key to order by
+     */
+    String orderBy() default "";
+
+    /**
+     * The property of the edges making the adjacency the vertices returned by a paged getter are ordered by, such as
+     * the time the vertices were linked. It can not be combined with orderBy.
+     *
+     * @return the edge property key to order by
+     */
+    String orderByEdge() default "";
+
+    /**
+     * The order applied to the orderBy or orderByEdge property by a paged getter.
+     *
+     * @return the order of the adjacent vertices
+     */
+    Order order() default Order.incr;
+
     /**
      * The operation the method is performing on the vertex.
      *
@@ -63,6 +102,6 @@ public @interface Adjacency {
     Adjacency.Operation operation() default Adjacency.Operation.AUTO;
 
     enum Operation {
-        GET, ADD, REMOVE, SET, AUTO
+        GET, ADD, REMOVE, SET, COUNT, AUTO
     };
 }
@@ -15,6 +15,7 @@
  */
 package com.syncleus.ferma.annotations;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 
 import java.lang.annotation.ElementType;
@@ -34,6 +35,12 @@ import java.lang.annotation.Target;
  * When annotating a get* class it ensures it only returns nodes of the specified type (including sub-classes). Any
  * Nodes which are not of this type will not be returned.
  *
+ * Iterator&lt;T&gt; get*(long offset, long limit)
+ * Iterator&lt;T&gt; get*(Class&lt;T&gt; type, long offset, long limit)
+ *
+ * A getter returning an Iterator, List or Set may take an offset and a limit, either as long or int, to return a
+ * single page of the edges. The page is selected by the graph, ordered by orderBy when it is set.
+ *
  * @since 2.0.0
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -56,6 +63,21 @@ public @interface Incidence {
      */
     Direction direction() default Direction.OUT;
 
+    /**
+     * The property the edges returned by a paged getter are ordered by. When empty they are left in the order the
+     * graph returns them, which is not guaranteed to be stable between calls.
+     *
+     * @return the property key to order by
+     */
+    String orderBy() default "";
+
+    /**
+     * The order applied to the orderBy property by a paged getter.
+     *
+     * @return the order of the edges
+     */
+    Order order() default Order.incr;
+
     /**
      * The operation the method is performing on the vertex.
      *
@@ -18,16 +18,16 @@ package com.syncleus.ferma.framefactories;
 import org.apache.tinkerpop.gremlin.structure.Element;
 
 /**
- * Creates the frame using reflection.
+ * Creates the frame through its no-argument constructor.
  */
 public class DefaultFrameFactory implements FrameFactory {
 
     @Override
     public <T> T create(final Element e, final Class<T> kind) {
         try {
-            return kind.newInstance();
+            return FrameInstantiator.instantiate(kind);
         }
-        catch (final InstantiationException | IllegalAccessException caught) {
+        catch (final ReflectiveOperationException caught) {
             throw new IllegalStateException("Could not instantiate kind: " + kind.getName(), caught);
         }
     }
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+
+/**
+ * Instantiates frames through their no-argument constructor. The constructor of each class is looked up once and kept
+ * as a method handle, avoiding the access checks {@link Class#newInstance()} performs on every call.
+ */
+public final class FrameInstantiator {
+    private static final MethodType NO_ARG_CONSTRUCTOR = MethodType.methodType(void.class);
+    private static final MethodType GENERIC_CONSTRUCTOR = MethodType.methodType(Object.class);
+
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(final Class<?> type) {
+            try {
+                return MethodHandles.lookup().findConstructor(type, NO_ARG_CONSTRUCTOR).asType(GENERIC_CONSTRUCTOR);
+            }
+            catch (final NoSuchMethodException | IllegalAccessException caught) {
+                //not cached, the failure is raised again on every attempt to instantiate the type
+                throw new IllegalStateException(caught);
+            }
+        }
+    };
+
+    private FrameInstantiator() {
+    }
+
+    /**
+     * Creates a new instance of the given class using its no-argument constructor.
+     *
+     * @param kind the class to instantiate.
+     * @param <T> the type of the instance.
+     * @return the new instance.
+     * @throws ReflectiveOperationException if the class is abstract, has no accessible no-argument constructor, or
+     * the constructor threw a checked exception.
+     */
+    public static <T> T instantiate(final Class<T> kind) throws ReflectiveOperationException {
+        if (kind.isInterface() || Modifier.isAbstract(kind.getModifiers()))
+            throw new InstantiationException(kind.getName() + " is abstract");
+
+        final MethodHandle constructor;
+        try {
+            constructor = CONSTRUCTORS.get(kind);
+        }
+        catch (final IllegalStateException caught) {
+            if (caught.getCause() instanceof ReflectiveOperationException)
+                throw (ReflectiveOperationException) caught.getCause();
+            throw caught;
+        }
+
+        try {
+            return (T) constructor.invokeExact();
+        }
+        catch (final RuntimeException | Error caught) {
+            throw caught;
+        }
+        catch (final Throwable caught) {
+            throw new InvocationTargetException(caught);
+        }
+    }
+}
@@ -17,6 +17,7 @@ package com.syncleus.ferma.framefactories.annotation;
 
 import com.syncleus.ferma.*;
 import com.syncleus.ferma.framefactories.FrameFactory;
+import com.syncleus.ferma.framefactories.FrameInstantiator;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.modifier.FieldManifestation;
 import net.bytebuddy.description.modifier.Visibility;
@@ -30,14 +31,26 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 public class AbstractAnnotationFrameFactory implements FrameFactory {
+    public static final String VERTEX_FRAME_SUFFIX = "$$FermaVertexFrame";
+    public static final String EDGE_FRAME_SUFFIX = "$$FermaEdgeFrame";
+
     protected final Map<Class<? extends Annotation>, MethodHandler> methodHandlers = new HashMap<>();
     private final ReflectionCache reflectionCache;
-    private final Map<Class, Class> constructedClassCache = new HashMap<>();
+    private final ConcurrentMap<Class, Class> constructedVertexClassCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class, Class> constructedEdgeClassCache = new ConcurrentHashMap<>();
 
     protected AbstractAnnotationFrameFactory(final ReflectionCache reflectionCache, Set<MethodHandler> handlers) {
         this.reflectionCache = reflectionCache;
@@ -60,39 +73,163 @@ public class AbstractAnnotationFrameFactory implements FrameFactory {
         if (isAbstract(resolvedKind))
             resolvedKind = constructClass(e, kind);
         try {
-            final T object = resolvedKind.newInstance();
+            final T object = FrameInstantiator.instantiate(resolvedKind);
             if (object instanceof CachesReflection)
                 ((CachesReflection) object).setReflectionCache(this.reflectionCache);
             return object;
         }
-        catch (final InstantiationException | IllegalAccessException caught) {
+        catch (final ReflectiveOperationException caught) {
             throw new IllegalArgumentException("kind could not be instantiated", caught);
         }
     }
 
+    /**
+     * Generates the frame classes of all abstract types known to the reflection cache so the generation cost is paid
+     * upfront rather than when a type is first framed. Interfaces which extend neither {@link VertexFrame} nor
+     * {@link EdgeFrame} get both a vertex and an edge class.
+     *
+     * @return the time in nanoseconds spent generating the classes of each type.
+     */
+    public Map<Class<?>, Long> warmUp() {
+        return warmUp(Runnable::run);
+    }
+
+    /**
+     * Generates the frame classes of all abstract types known to the reflection cache, one task per type on the given
+     * executor, and waits for all of them to complete.
+     *
+     * @param executor the executor the classes are generated on.
+     * @return the time in nanoseconds spent generating the classes of each type.
+     */
+    public Map<Class<?>, Long> warmUp(final Executor executor) {
+        if( executor == null )
+            throw new IllegalArgumentException("executor can not be null");
+        if( this.reflectionCache == null )
+            throw new IllegalStateException("warming up requires a reflection cache");
+
+        final Map<Class<?>, Long> generationTimes = new ConcurrentHashMap<>();
+        final List<CompletableFuture<Void>> generations = new ArrayList<>();
+        for (final Class<?> type : this.reflectionCache.getGraphElementTypes())
+            if (isAbstract(type))
+                generations.add(CompletableFuture.runAsync(() -> generationTimes.put(type, warmUp(type)), executor));
+
+        try {
+            CompletableFuture.allOf(generations.toArray(new CompletableFuture[generations.size()])).join();
+        }
+        catch (final CompletionException caught) {
+            if (caught.getCause() instanceof RuntimeException)
+                throw (RuntimeException) caught.getCause();
+            throw caught;
+        }
+        return Collections.unmodifiableMap(generationTimes);
+    }
+
+    private long warmUp(final Class<?> type) {
+        final long start = System.nanoTime();
+        final boolean vertex = VertexFrame.class.isAssignableFrom(type);
+        final boolean edge = EdgeFrame.class.isAssignableFrom(type);
+        if (!edge && (vertex || type.isInterface()))
+            constructClass(type, true);
+        if (!vertex && (edge || type.isInterface()))
+            constructClass(type, false);
+        return System.nanoTime() - start;
+    }
+
     private <E> Class<? extends E> constructClass(final Element element, final Class<E> clazz) {
-        Class constructedClass = constructedClassCache.get(clazz);
+        if (element instanceof Vertex)
+            return constructClass(clazz, true);
+        else if (element instanceof Edge)
+            return constructClass(clazz, false);
+        else if (clazz.isInterface())
+            throw new IllegalStateException("class is neither an Edge or a vertex!");
+        else
+            throw new IllegalStateException("element is neither an edge nor a vertex");
+    }
+
+    private <E> Class<? extends E> constructClass(final Class<E> clazz, final boolean vertex) {
+        final ConcurrentMap<Class, Class> constructedClassCache = (vertex ? constructedVertexClassCache : constructedEdgeClassCache);
+
+        //a plain read first keeps the steady state lock-free, computeIfAbsent guarantees a single generation per type
+        final Class constructedClass = constructedClassCache.get(clazz);
         if (constructedClass != null)
             return constructedClass;
 
+        return constructedClassCache.computeIfAbsent(clazz, key -> generateClass(clazz, vertex));
+    }
+
+    private <E> Class<? extends E> generateClass(final Class<E> clazz, final boolean vertex) {
+        final Class<? extends E> precompiledClass = findPrecompiledClass(clazz, vertex);
+        if (precompiledClass != null)
+            return precompiledClass;
+
+        return makeClass(clazz, vertex).load(AnnotationFrameFactory.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+    }
+
+    /**
+     * Looks up a frame class that was generated ahead of time for the given type. Returning null causes the class to be
+     * generated at runtime, which is what this implementation always does.
+     *
+     * @param clazz the abstract frame type being instantiated.
+     * @param vertex true if the frame wraps a vertex, false if it wraps an edge.
+     * @param <E> the frame type.
+     * @return the precompiled class, or null if none is available.
+     */
+    protected <E> Class<? extends E> findPrecompiledClass(final Class<E> clazz, final boolean vertex) {
+        return null;
+    }
+
+    /**
+     * The name given to a class generated ahead of time for a frame type. The name is derived only from the frame type
+     * so the class can be found again at runtime. Classes generated at runtime get a unique name instead.
+     *
+     * @param clazz the abstract frame type.
+     * @param vertex true if the frame wraps a vertex, false if it wraps an edge.
+     * @return the fully qualified name of the generated class.
+     */
+    public static String generatedClassName(final Class<?> clazz, final boolean vertex) {
+        return clazz.getName() + (vertex ? VERTEX_FRAME_SUFFIX : EDGE_FRAME_SUFFIX);
+    }
+
+    /**
+     * Generates, without loading, the concrete class implementing the abstract methods of a frame type at runtime. The
+     * class gets a unique name, so it never clashes with a class generated ahead of time for the same type which is
+     * visible to the class loader it is loaded into.
+     *
+     * @param clazz the abstract frame type.
+     * @param vertex true if the frame wraps a vertex, false if it wraps an edge.
+     * @param <E> the frame type.
+     * @return the generated class.
+     */
+    protected <E> DynamicType.Unloaded<? extends E> makeClass(final Class<E> clazz, final boolean vertex) {
+        return makeClass(clazz, vertex, null);
+    }
+
+    /**
+     * Generates, without loading, the concrete class implementing the abstract methods of a frame type.
+     *
+     * @param clazz the abstract frame type.
+     * @param vertex true if the frame wraps a vertex, false if it wraps an edge.
+     * @param name the fully qualified name of the generated class, or null to generate a unique name.
+     * @param <E> the frame type.
+     * @return the generated class.
+     */
+    protected <E> DynamicType.Unloaded<? extends E> makeClass(final Class<E> clazz, final boolean vertex, final String name) {
         DynamicType.Builder<? extends E> classBuilder;
         if (clazz.isInterface())
-            if (element instanceof Vertex)
+            if (vertex)
                 classBuilder = (DynamicType.Builder<? extends E>) new ByteBuddy().subclass(AbstractVertexFrame.class).implement(clazz);
-            else if (element instanceof Edge)
-                classBuilder = (DynamicType.Builder<? extends E>) new ByteBuddy().subclass(AbstractEdgeFrame.class).implement(clazz);
             else
-                throw new IllegalStateException("class is neither an Edge or a vertex!");
+                classBuilder = (DynamicType.Builder<? extends E>) new ByteBuddy().subclass(AbstractEdgeFrame.class).implement(clazz);
         else {
-            if( !(element instanceof Vertex || element instanceof Edge) )
-                throw new IllegalStateException("element is neither an edge nor a vertex");
-            else if (element instanceof Vertex && !VertexFrame.class.isAssignableFrom(clazz))
+            if (vertex && !VertexFrame.class.isAssignableFrom(clazz))
                 throw new IllegalStateException(clazz.getName() + " Class is not a type of VertexFrame");
-            else if (element instanceof Edge && !EdgeFrame.class.isAssignableFrom(clazz))
+            else if (!vertex && !EdgeFrame.class.isAssignableFrom(clazz))
                 throw new IllegalStateException(clazz.getName() + " Class is not a type of EdgeFrame");
             classBuilder = new ByteBuddy().subclass(clazz);
         }
 
+        if (name != null)
+            classBuilder = classBuilder.name(name);
         classBuilder = classBuilder.defineField("reflectionCache", ReflectionCache.class, Visibility.PRIVATE, FieldManifestation.PLAIN).implement(CachesReflection.class).intercept(FieldAccessor.
               ofBeanProperty());
 
@@ -108,8 +245,6 @@ public class AbstractAnnotationFrameFactory implements FrameFactory {
                     }
                 }
 
-        constructedClass = classBuilder.make().load(AnnotationFrameFactory.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
-        this.constructedClassCache.put(clazz, constructedClass);
-        return constructedClass;
+        return classBuilder.make();
     }
 }
@@ -15,7 +15,80 @@
  */
 package com.syncleus.ferma.framefactories.annotation;
 
+import com.syncleus.ferma.Traversable;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
 public abstract class AbstractMethodHandler implements MethodHandler {
+
+    /**
+     * Implements a frame method by calling the single public static method declared by an interceptor. The interceptor
+     * receives the frame, then the given constants, then the arguments of the intercepted method. The constants are
+     * written into the generated class as bytecode constants, so the generated class needs no further initialization
+     * once it is loaded and can be generated ahead of time.
+     *
+     * @param interceptor the class declaring the static interceptor method.
+     * @param constants strings, classes, enums or nulls resolved from the annotation when the class is generated.
+     * @return the implementation of the intercepted method.
+     */
+    protected static Implementation invokeInterceptor(final Class<?> interceptor, final Object... constants) {
+        final MethodDescription target = new TypeDescription.ForLoadedType(interceptor).getDeclaredMethods()
+              .filter(ElementMatchers.isStatic().and(ElementMatchers.isPublic())).getOnly();
+        return MethodCall.invoke(target).withThis().with(constants).withAllArguments().withAssigner(Assigner.DEFAULT, Assigner.Typing.DYNAMIC);
+    }
+
+    /**
+     * Restricts a traversal to a single page of its elements for a paged getter. The elements are ordered first when
+     * a property to order by is given, so the same page is returned on every call.
+     *
+     * @param traversal the traversal emitting every element the getter may return.
+     * @param orderBy the property key to order the elements by, or an empty string to leave them unordered.
+     * @param order the order applied to the orderBy property.
+     * @param offset the number of elements to skip.
+     * @param limit the maximum number of elements to return.
+     * @param <S> the start type of the traversal.
+     * @param <E> the element type of the traversal.
+     * @return the traversal restricted to the page.
+     */
+    protected static <S, E> GraphTraversal<S, E> page(final GraphTraversal<S, E> traversal, final String orderBy, final Order order, final long offset, final long limit) {
+        if (offset < 0)
+            throw new IllegalArgumentException("offset can not be negative");
+        if (limit < 0)
+            throw new IllegalArgumentException("limit can not be negative");
+
+        final GraphTraversal<S, E> ordered = orderBy.isEmpty() ? traversal : traversal.order().by(orderBy, order);
+        return ordered.range(offset, limit > Long.MAX_VALUE - offset ? -1 : offset + limit);
+    }
+
+    /**
+     * Frames the elements of a traversal into the collection type a getter returns.
+     *
+     * @param traversable the traversal to frame.
+     * @param collection the return type of the getter, either an Iterator, a List or a Set.
+     * @param kind the kind of frame.
+     * @return the framed elements.
+     */
+    protected static Object frameAs(final Traversable<?, ?> traversable, final Class<?> collection, final Class<?> kind) {
+        if (Iterator.class.isAssignableFrom(collection))
+            return traversable.frame(kind);
+        else if (List.class.isAssignableFrom(collection))
+            return traversable.toList(kind);
+        else if (Set.class.isAssignableFrom(collection))
+            return traversable.toSet(kind);
+
+        throw new IllegalStateException(collection.getName() + " is not an Iterator, List or Set");
+    }
+
     @Override
     public int hashCode() {
         return this.getAnnotationType().hashCode();
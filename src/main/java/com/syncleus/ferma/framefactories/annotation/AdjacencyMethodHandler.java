@@ -20,21 +20,25 @@ import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.annotations.Adjacency;
 import com.syncleus.ferma.typeresolvers.TypeResolver;
 import net.bytebuddy.dynamic.DynamicType;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.implementation.bind.annotation.Argument;
-import net.bytebuddy.implementation.bind.annotation.Origin;
-import net.bytebuddy.implementation.bind.annotation.RuntimeType;
-import net.bytebuddy.implementation.bind.annotation.This;
+import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.matcher.ElementMatchers;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Consumer;
 
 /**
  * A method handler that implemented the Adjacency Annotation.
@@ -95,6 +99,20 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
                 return this.getVertexByType(builder, method, annotation);
             }
+            else if (ReflectionUtility.acceptsRange(method, 0)) {
+                if (!ReflectionUtility.returnsCollection(method))
+                    throw new IllegalStateException(method.getName() + " was annotated with @Adjacency, accepted an offset and a limit, but did not return an Iterator, List or Set");
+
+                return this.getVertexesRangeDefault(builder, method, annotation);
+            }
+            else if (arguments.length == 3 && ReflectionUtility.acceptsRange(method, 1)) {
+                if (!(Class.class.isAssignableFrom(arguments[0].getType())))
+                    throw new IllegalStateException(method.getName() + " was annotated with @Adjacency, accepted an offset and a limit, but the first argument was not of the type Class");
+                if (!ReflectionUtility.returnsCollection(method))
+                    throw new IllegalStateException(method.getName() + " was annotated with @Adjacency, accepted an offset and a limit, but did not return an Iterator, List or Set");
+
+                return this.getVertexesRangeByType(builder, method, annotation);
+            }
             else
                 throw new IllegalStateException(method.getName() + " was annotated with @Adjacency but had more than 1 arguments.");
         else if (ReflectionUtility.isRemoveMethod(method))
@@ -119,91 +137,123 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
             }
             else
                 throw new IllegalStateException(method.getName() + " was annotated with @Adjacency but had more than 1 arguments.");
+        else if (ReflectionUtility.isCountMethod(method))
+            if (arguments != null && arguments.length > 0)
+                throw new IllegalStateException(method.getName() + " was annotated with @Adjacency but had arguments.");
+            else if (ReflectionUtility.returnsCount(method))
+                return this.countVertexes(builder, method, annotation);
+            else if (ReflectionUtility.returnsBoolean(method))
+                return this.existsVertex(builder, method, annotation);
+            else
+                throw new IllegalStateException(method.getName() + " was annotated with @Adjacency as a count but did not return a long, an int or a boolean.");
         else
-            throw new IllegalStateException(method.getName() + " was annotated with @Adjacency but did not begin with either of the following keywords: add, get, remove");
+            throw new IllegalStateException(method.getName() + " was annotated with @Adjacency but did not begin with either of the following keywords: add, get, remove, set, count");
+    }
+
+    private static Implementation intercept(final Class<?> interceptor, final Method method, final Annotation annotation) {
+        final Adjacency adjacency = (Adjacency) annotation;
+        return invokeInterceptor(interceptor, method.getName(), adjacency.direction(), adjacency.label());
+    }
+
+    private static Implementation interceptRange(final Class<?> interceptor, final Method method, final Annotation annotation) {
+        final Adjacency adjacency = (Adjacency) annotation;
+        if (!adjacency.orderBy().isEmpty() && !adjacency.orderByEdge().isEmpty())
+            throw new IllegalStateException(method.getName() + " was annotated with @Adjacency ordered by both a vertex and an edge property.");
+        return invokeInterceptor(interceptor, method.getName(), adjacency.direction(), adjacency.label(), adjacency.orderBy(), adjacency.orderByEdge(), adjacency.order(), method.getReturnType());
+    }
+
+    private <E> DynamicType.Builder<E> getVertexesRangeDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(interceptRange(GetVertexesRangeDefaultInterceptor.class, method, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getVertexesRangeByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(interceptRange(GetVertexesRangeByTypeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesIteratorDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesIteratorDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetVertexesIteratorDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesListDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesListDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetVertexesListDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesSetDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesSetDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetVertexesSetDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetVertexDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesIteratorByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesIteratorByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetVertexesIteratorByTypeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesListByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesListByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetVertexesListByTypeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexesSetByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexesSetByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetVertexesSetByTypeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getVertexByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetVertexByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetVertexByTypeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddVertexDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexByTypeUntypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexByTypeUntypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddVertexByTypeUntypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexByObjectUntypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexByObjectUntypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddVertexByObjectUntypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexByTypeTypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexByTypeTypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddVertexByTypeTypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addVertexByObjectTypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddVertexByObjectTypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddVertexByObjectTypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> setVertexIterator(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(SetVertexIteratorInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(SetVertexIteratorInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> setVertexIterable(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(SetVertexIterableInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(SetVertexIterableInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> setVertexVertexFrame(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(SetVertexVertexFrameInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(SetVertexVertexFrameInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> removeVertex(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(RemoveVertexInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(RemoveVertexInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> removeAll(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(RemoveAllInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(RemoveAllInterceptor.class, method, annotation));
     }
 
-    public static final class GetVertexesIteratorDefaultInterceptor {
+    private <E> DynamicType.Builder<E> countVertexes(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        final Class<?> interceptor = ReflectionUtility.returnsInt(method) ? CountVertexesIntInterceptor.class : CountVertexesInterceptor.class;
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(interceptor, method, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> existsVertex(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(ExistsVertexInterceptor.class, method, annotation));
+    }
 
-        @RuntimeType
-        public static Iterator getVertexes(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+    public static final class GetVertexesIteratorDefaultInterceptor {
 
+        public static Iterator getVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             return thiz.traverse(input -> {
                 switch(direction) {
                     case IN:
@@ -221,13 +271,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class GetVertexesListDefaultInterceptor {
 
-        @RuntimeType
-        public static List getVertexes(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static List getVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             return thiz.traverse(input -> {
                 switch (direction) {
                     case IN:
@@ -245,13 +289,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class GetVertexesSetDefaultInterceptor {
 
-        @RuntimeType
-        public static Set getVertexes(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Set getVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             return thiz.traverse(input -> {
                 switch (direction) {
                     case IN:
@@ -269,12 +307,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class GetVertexesIteratorByTypeInterceptor {
 
-        @RuntimeType
-        public static Iterator getVertexes(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Iterator getVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             return thiz.traverse(input -> {
@@ -294,12 +327,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class GetVertexesListByTypeInterceptor {
 
-        @RuntimeType
-        public static List getVertexes(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static List getVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             return thiz.traverse(input -> {
@@ -319,12 +347,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class GetVertexesSetByTypeInterceptor {
 
-        @RuntimeType
-        public static Set getVertexes(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Set getVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             return thiz.traverse(input -> {
@@ -344,13 +367,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class GetVertexDefaultInterceptor {
 
-        @RuntimeType
-        public static Object getVertexes(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Object getVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             return thiz.traverse(input -> {
                 switch(direction) {
                     case IN:
@@ -368,12 +385,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class GetVertexByTypeInterceptor {
 
-        @RuntimeType
-        public static Object getVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Object getVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             return thiz.traverse(input -> {
@@ -391,15 +403,55 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
         }
     }
 
+    public static final class GetVertexesRangeDefaultInterceptor {
+
+        public static Object getVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final String orderBy, final String orderByEdge, final Order order, final Class collection, final long offset, final long limit) {
+            return frameAs(thiz.traverse(input -> page(adjacentVertices(input, methodName, direction, label, orderByEdge, order), orderBy, order, offset, limit)), collection, VertexFrame.class);
+        }
+    }
+
+    public static final class GetVertexesRangeByTypeInterceptor {
+
+        public static Object getVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final String orderBy, final String orderByEdge, final Order order, final Class collection, final Class type, final long offset, final long limit) {
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+
+            return frameAs(thiz.traverse(input -> page(resolver.hasType(adjacentVertices(input, methodName, direction, label, orderByEdge, order), type), orderBy, order, offset, limit)), collection, type);
+        }
+    }
+
+    private static GraphTraversal<Vertex, Vertex> adjacentVertices(final GraphTraversal<Vertex, Vertex> input, final String methodName, final Direction direction, final String label, final String orderByEdge, final Order order) {
+        if (orderByEdge.isEmpty())
+            return adjacentVertices(input, methodName, direction, label);
+
+        switch (direction) {
+            case BOTH:
+                return input.bothE(label).order().by(orderByEdge, order).otherV();
+            case IN:
+                return input.inE(label).order().by(orderByEdge, order).outV();
+            case OUT:
+                return input.outE(label).order().by(orderByEdge, order).inV();
+            default:
+                throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
+        }
+    }
+
+    private static GraphTraversal<Vertex, Vertex> adjacentVertices(final GraphTraversal<Vertex, Vertex> input, final String methodName, final Direction direction, final String label) {
+        switch (direction) {
+            case BOTH:
+                return input.both(label);
+            case IN:
+                return input.in(label);
+            case OUT:
+                return input.out(label);
+            default:
+                throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
+        }
+    }
+
     public static final class AddVertexDefaultInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method) {
+        public static Object addVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             final VertexFrame newVertex = thiz.getGraph().addFramedVertex();
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
 
             switch (direction) {
                 case BOTH:
@@ -413,7 +465,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
 
             return newVertex;
@@ -421,17 +473,11 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
     }
 
     public static final class AddVertexByTypeUntypedEdgeInterceptor {
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(value = 0) final ClassInitializer vertexType) {
+        public static Object addVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final ClassInitializer vertexType) {
             final Object newNode = thiz.getGraph().addFramedVertex(vertexType);
             assert newNode instanceof VertexFrame;
             final VertexFrame newVertex = ((VertexFrame) newNode);
 
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
             assert vertexType.getInitializationType().isInstance(newNode);
 
             switch (direction) {
@@ -446,7 +492,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
 
             return newNode;
@@ -454,17 +500,11 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
     }
 
     public static final class AddVertexByTypeTypedEdgeInterceptor {
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final ClassInitializer vertexType, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
+        public static Object addVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final ClassInitializer vertexType, final ClassInitializer edgeType) {
             final Object newNode = thiz.getGraph().addFramedVertex(vertexType);
             assert newNode instanceof VertexFrame;
             final VertexFrame newVertex = ((VertexFrame) newNode);
 
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
             assert vertexType.getInitializationType().isInstance(newNode);
 
             switch (direction) {
@@ -479,7 +519,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label, edgeType);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
 
             return newNode;
@@ -488,13 +528,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class AddVertexByObjectUntypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Object addVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final VertexFrame newVertex) {
             switch (direction) {
                 case BOTH:
                     thiz.getGraph().addFramedEdge(newVertex, thiz, label);
@@ -507,7 +541,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
 
             return newVertex;
@@ -516,13 +550,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class AddVertexByObjectTypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Object addVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final VertexFrame newVertex, final ClassInitializer edgeType) {
             switch (direction) {
                 case BOTH:
                     thiz.getGraph().addFramedEdge(newVertex, thiz, label, edgeType);
@@ -535,7 +563,7 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
                     thiz.getGraph().addFramedEdge(thiz, newVertex, label, edgeType);
                     break;
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
 
             return newVertex;
@@ -544,214 +572,133 @@ public class AdjacencyMethodHandler extends AbstractMethodHandler {
 
     public static final class SetVertexIteratorInterceptor {
 
-        @RuntimeType
-        public static void setVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Iterator vertexSet) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-
-            switch (direction) {
-                case BOTH:
-                    thiz.unlinkBoth(null, label);
-                    ((Iterator<? extends VertexFrame>)vertexSet).forEachRemaining(new Consumer<VertexFrame>() {
-                        @Override
-                        public void accept(VertexFrame vertexFrame) {
-                            thiz.getGraph().addFramedEdge(vertexFrame, thiz, label);
-                            thiz.getGraph().addFramedEdge(thiz, vertexFrame, label);
-                        }
-                    });
-                    break;
-                case IN:
-                    thiz.unlinkIn(null, label);
-                    ((Iterator<? extends VertexFrame>)vertexSet).forEachRemaining(new Consumer<VertexFrame>() {
-                        @Override
-                        public void accept(VertexFrame vertexFrame) {
-                            thiz.getGraph().addFramedEdge(vertexFrame, thiz, label);
-                        }
-                    });
-                    break;
-                case OUT:
-                    thiz.unlinkOut(null, label);
-                    ((Iterator<? extends VertexFrame>)vertexSet).forEachRemaining(new Consumer<VertexFrame>() {
-                        @Override
-                        public void accept(VertexFrame vertexFrame) {
-                            thiz.getGraph().addFramedEdge(thiz, vertexFrame, label);
-                        }
-                    });
-                    break;
-                default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
-            }
+        public static void setVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Iterator vertexSet) {
+            setAdjacent(thiz, methodName, direction, label, (Iterator<? extends VertexFrame>) vertexSet);
         }
     }
 
     public static final class SetVertexIterableInterceptor {
 
-        @RuntimeType
-        public static void setVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Iterable vertexSet) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static void setVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Iterable vertexSet) {
+            setAdjacent(thiz, methodName, direction, label, (Iterator<? extends VertexFrame>) vertexSet.iterator());
+        }
+    }
 
+    public static final class SetVertexVertexFrameInterceptor {
 
-            switch (direction) {
-                case BOTH:
-                    thiz.unlinkBoth(null, label);
-                    ((Iterator<? extends VertexFrame>)vertexSet.iterator()).forEachRemaining(new Consumer<VertexFrame>() {
-                        @Override
-                        public void accept(VertexFrame vertexFrame) {
-                            thiz.getGraph().addFramedEdge(vertexFrame, thiz, label);
-                            thiz.getGraph().addFramedEdge(thiz, vertexFrame, label);
-                        }
-                    });
-                    break;
-                case IN:
-                    thiz.unlinkIn(null, label);
-                    ((Iterator<? extends VertexFrame>)vertexSet.iterator()).forEachRemaining(new Consumer<VertexFrame>() {
-                        @Override
-                        public void accept(VertexFrame vertexFrame) {
-                            thiz.getGraph().addFramedEdge(vertexFrame, thiz, label);
-                        }
-                    });
-                    break;
-                case OUT:
-                    thiz.unlinkOut(null, label);
-                    ((Iterator<? extends VertexFrame>)vertexSet.iterator()).forEachRemaining(new Consumer<VertexFrame>() {
-                        @Override
-                        public void accept(VertexFrame vertexFrame) {
-                            thiz.getGraph().addFramedEdge(thiz, vertexFrame, label);
-                        }
-                    });
-                    break;
-                default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
-            }
+        public static void setVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final VertexFrame vertexFrame) {
+            final Iterator<VertexFrame> vertexSet = (vertexFrame != null ? Collections.singletonList(vertexFrame).iterator() : Collections.<VertexFrame>emptyIterator());
+            setAdjacent(thiz, methodName, direction, label, vertexSet);
         }
     }
 
-    public static final class SetVertexVertexFrameInterceptor {
+    /**
+     * Makes the given vertices the only vertices adjacent to a frame through edges of the label. Edges to vertices
+     * which remain adjacent are kept along with their ids and properties, only the edges to vertices no longer adjacent
+     * are removed and edges to newly adjacent vertices are added.
+     */
+    private static void setAdjacent(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Iterator<? extends VertexFrame> vertices) {
+        final Map<Object, List<VertexFrame>> adjacent = new LinkedHashMap<>();
+        vertices.forEachRemaining(vertex -> adjacent.computeIfAbsent(vertex.getId(), id -> new ArrayList<>()).add(vertex));
+
+        switch (direction) {
+            case BOTH:
+                relink(thiz, Direction.OUT, label, adjacent);
+                relink(thiz, Direction.IN, label, adjacent);
+                break;
+            case IN:
+            case OUT:
+                relink(thiz, direction, label, adjacent);
+                break;
+            default:
+                throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
+        }
+    }
 
-        @RuntimeType
-        public static void setVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame vertexFrame) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+    private static void relink(final VertexFrame thiz, final Direction direction, final String label, final Map<Object, List<VertexFrame>> adjacent) {
+        final Map<Object, Integer> unmatched = new HashMap<>();
+        adjacent.forEach((id, frames) -> unmatched.put(id, frames.size()));
 
+        final List<Edge> edges = (direction == Direction.OUT ? thiz.getRawTraversal().outE(label) : thiz.getRawTraversal().inE(label)).toList();
+        for (final Edge edge : edges) {
+            final Object adjacentId = (direction == Direction.OUT ? edge.inVertex() : edge.outVertex()).id();
+            final Integer count = unmatched.get(adjacentId);
+            if (count != null && count > 0)
+                unmatched.put(adjacentId, count - 1);
+            else
+                edge.remove();
+        }
 
-            switch (direction) {
-                case BOTH:
-                    thiz.unlinkBoth(null, label);
-                    if (vertexFrame != null) {
-                        thiz.getGraph().addFramedEdge(vertexFrame, thiz, label);
-                        thiz.getGraph().addFramedEdge(thiz, vertexFrame, label);
-                    }
-                    break;
-                case IN:
-                    thiz.unlinkIn(null, label);
-                    if (vertexFrame != null)
-                        thiz.getGraph().addFramedEdge(vertexFrame, thiz, label);
-                    break;
-                case OUT:
-                    thiz.unlinkOut(null, label);
-                    if (vertexFrame != null)
-                        thiz.getGraph().addFramedEdge(thiz, vertexFrame, label);
-                    break;
-                default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+        for (final Map.Entry<Object, List<VertexFrame>> entry : adjacent.entrySet()) {
+            final List<VertexFrame> frames = entry.getValue();
+            for (final VertexFrame frame : frames.subList(frames.size() - unmatched.get(entry.getKey()), frames.size())) {
+                if (direction == Direction.OUT)
+                    thiz.getGraph().addFramedEdge(thiz, frame, label);
+                else
+                    thiz.getGraph().addFramedEdge(frame, thiz, label);
             }
         }
     }
 
     public static final class RemoveVertexInterceptor {
 
-        @RuntimeType
-        public static void removeVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame removeVertex) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
-            switch (direction) {
-                case BOTH:
-                    final Iterator<Edge> bothEdges = thiz.getRawTraversal().bothE(label);
-                    bothEdges.forEachRemaining(new Consumer<Edge>() {
-                        @Override
-                        public void accept(final Edge edge) {
-                            if (null == removeVertex || edge.outVertex().id().equals(removeVertex.getId()) || edge.inVertex().id().equals(removeVertex.getId()))
-                                edge.remove();
-                        }
-                    });
-                    break;
-                case IN:
-                    final Iterator<Edge> inEdges = thiz.getRawTraversal().inE(label);
-                    inEdges.forEachRemaining(new Consumer<Edge>() {
-                        @Override
-                        public void accept(final Edge edge) {
-                            if (null == removeVertex || edge.outVertex().id().equals(removeVertex.getId()))
-                                edge.remove();
-                        }
-                    });
-                    break;
-                case OUT:
-                    final Iterator<Edge> outEdges = thiz.getRawTraversal().outE(label);
-                    outEdges.forEachRemaining(new Consumer<Edge>() {
-                        @Override
-                        public void accept(final Edge edge) {
-                            if (null == removeVertex || edge.inVertex().id().equals(removeVertex.getId()))
-                                edge.remove();
-                        }
-                    });
-                    break;
-                default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+        public static void removeVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final VertexFrame removeVertex) {
+            final GraphTraversal<?, Edge> edges = adjacentEdges(thiz, methodName, direction, label);
+            if (removeVertex != null) {
+                final Object removeId = removeVertex.getElement().id();
+                switch (direction) {
+                    case BOTH:
+                        edges.where(__.or(__.outV().hasId(removeId), __.inV().hasId(removeId)));
+                        break;
+                    case IN:
+                        edges.where(__.outV().hasId(removeId));
+                        break;
+                    default:
+                        edges.where(__.inV().hasId(removeId));
+                }
             }
+            edges.drop().iterate();
         }
     }
 
     public static final class RemoveAllInterceptor {
 
-        @RuntimeType
-        public static void removeVertex(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Adjacency annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Adjacency.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static void removeVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
+            adjacentEdges(thiz, methodName, direction, label).drop().iterate();
+        }
+    }
 
-            switch (direction) {
-                case BOTH:
-                    final Iterator<Edge> bothEdges = thiz.getRawTraversal().bothE(label);
-                    bothEdges.forEachRemaining(new Consumer<Edge>() {
-                        @Override
-                        public void accept(final Edge edge) {
-                            edge.remove();
-                        }
-                    });
-                    break;
-                case IN:
-                    final Iterator<Edge> inEdges = thiz.getRawTraversal().inE(label);
-                    inEdges.forEachRemaining(new Consumer<Edge>() {
-                        @Override
-                        public void accept(final Edge edge) {
-                            edge.remove();
-                        }
-                    });
-                    break;
-                case OUT:
-                    final Iterator<Edge> outEdges = thiz.getRawTraversal().outE(label);
-                    outEdges.forEachRemaining(new Consumer<Edge>() {
-                        @Override
-                        public void accept(final Edge edge) {
-                            edge.remove();
-                        }
-                    });
-                    break;
-                default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
-            }
+    private static GraphTraversal<?, Edge> adjacentEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
+        switch (direction) {
+            case BOTH:
+                return thiz.getRawTraversal().bothE(label);
+            case IN:
+                return thiz.getRawTraversal().inE(label);
+            case OUT:
+                return thiz.getRawTraversal().outE(label);
+            default:
+                throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
+        }
+    }
+
+    public static final class CountVertexesInterceptor {
+
+        public static long countVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
+            return adjacentEdges(thiz, methodName, direction, label).count().next();
+        }
+    }
+
+    public static final class CountVertexesIntInterceptor {
+
+        public static int countVertexes(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
+            return Math.toIntExact(adjacentEdges(thiz, methodName, direction, label).count().next());
+        }
+    }
+
+    public static final class ExistsVertexInterceptor {
+
+        public static boolean existsVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
+            return adjacentEdges(thiz, methodName, direction, label).limit(1).hasNext();
         }
     }
 }
@@ -0,0 +1,105 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories.annotation;
+
+import com.syncleus.ferma.EdgeFrame;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.VertexFrame;
+import com.syncleus.ferma.annotations.GraphElement;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Generates the frame classes of abstract annotated frame types ahead of time and writes them as class files, so a
+ * {@link PrecompiledAnnotationFrameFactory} can load them instead of generating them at runtime. Interfaces which
+ * extend neither {@link VertexFrame} nor {@link EdgeFrame} get both a vertex and an edge implementation.
+ *
+ * The main method is intended to be run as a build step after compilation, for example through the exec-maven-plugin
+ * in the process-classes phase, with the class output directory followed by the model packages to scan.
+ * Generation needs the compiled frame types to be loadable, which is why it is a build step after compilation rather
+ * than an annotation processor.
+ */
+public class FrameClassGenerator {
+    private final AbstractAnnotationFrameFactory frameFactory;
+
+    /**
+     * @param frameFactory the factory whose method handlers implement the generated classes.
+     */
+    public FrameClassGenerator(final AbstractAnnotationFrameFactory frameFactory) {
+        if( frameFactory == null )
+            throw new IllegalArgumentException("frameFactory can not be null");
+
+        this.frameFactory = frameFactory;
+    }
+
+    /**
+     * Generates the frame classes for the given types and writes them into the output directory. Concrete types are
+     * skipped as they are instantiated directly.
+     *
+     * @param types the frame types to generate classes for.
+     * @param outputDirectory the root directory the class files are written to.
+     * @return the names of the generated classes.
+     * @throws IOException if a class file could not be written.
+     */
+    public List<String> generate(final Collection<? extends Class<?>> types, final File outputDirectory) throws IOException {
+        final List<String> generatedClasses = new ArrayList<>();
+        for (final Class<?> type : types) {
+            if (!Modifier.isAbstract(type.getModifiers()))
+                continue;
+
+            final boolean edge = EdgeFrame.class.isAssignableFrom(type);
+            final boolean vertex = VertexFrame.class.isAssignableFrom(type);
+            if (!type.isInterface() && !vertex && !edge)
+                continue;
+
+            if (!edge) {
+                final String className = AbstractAnnotationFrameFactory.generatedClassName(type, true);
+                this.frameFactory.makeClass(type, true, className).saveIn(outputDirectory);
+                generatedClasses.add(className);
+            }
+            if (!vertex) {
+                final String className = AbstractAnnotationFrameFactory.generatedClassName(type, false);
+                this.frameFactory.makeClass(type, false, className).saveIn(outputDirectory);
+                generatedClasses.add(className);
+            }
+        }
+        return generatedClasses;
+    }
+
+    /**
+     * Generates the frame classes of every type annotated with {@link GraphElement} in the given packages.
+     *
+     * @param args the output directory followed by one or more model packages.
+     * @throws IOException if a class file could not be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2)
+            throw new IllegalArgumentException("usage: FrameClassGenerator <output directory> <model package>...");
+
+        final File outputDirectory = new File(args[0]);
+        for (final String modelPackage : Arrays.asList(args).subList(1, args.length)) {
+            final ReflectionCache reflectionCache = new ReflectionCache(modelPackage);
+            final FrameClassGenerator generator = new FrameClassGenerator(new AnnotationFrameFactory(reflectionCache));
+            generator.generate(reflectionCache.getTypesAnnotatedWith(GraphElement.class), outputDirectory);
+        }
+    }
+}
@@ -19,11 +19,7 @@ import com.syncleus.ferma.typeresolvers.TypeResolver;
 import com.syncleus.ferma.*;
 import com.syncleus.ferma.annotations.Incidence;
 import net.bytebuddy.dynamic.DynamicType;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.implementation.bind.annotation.Argument;
-import net.bytebuddy.implementation.bind.annotation.Origin;
-import net.bytebuddy.implementation.bind.annotation.RuntimeType;
-import net.bytebuddy.implementation.bind.annotation.This;
+import net.bytebuddy.implementation.Implementation;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Iterator;
@@ -31,7 +27,11 @@ import java.util.List;
 import java.util.Set;
 
 import net.bytebuddy.matcher.ElementMatchers;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 /**
  * A TinkerPop method handler that implemented the Incidence Annotation.
@@ -92,6 +92,20 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
 
                 return this.getEdgeByType(builder, method, annotation);
             }
+            else if (ReflectionUtility.acceptsRange(method, 0)) {
+                if (!ReflectionUtility.returnsCollection(method))
+                    throw new IllegalStateException(method.getName() + " was annotated with @Incidence, accepted an offset and a limit, but did not return an Iterator, List or Set");
+
+                return this.getEdgesRangeDefault(builder, method, annotation);
+            }
+            else if (arguments.length == 3 && ReflectionUtility.acceptsRange(method, 1)) {
+                if (!(Class.class.isAssignableFrom(arguments[0].getType())))
+                    throw new IllegalStateException(method.getName() + " was annotated with @Incidence, accepted an offset and a limit, but the first argument was not of the type Class");
+                if (!ReflectionUtility.returnsCollection(method))
+                    throw new IllegalStateException(method.getName() + " was annotated with @Incidence, accepted an offset and a limit, but did not return an Iterator, List or Set");
+
+                return this.getEdgesRangeByType(builder, method, annotation);
+            }
             else
                 throw new IllegalStateException(method.getName() + " was annotated with @Incidence but had more than 1 arguments.");
         else if (ReflectionUtility.isRemoveMethod(method))
@@ -105,194 +119,177 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
             throw new IllegalStateException(method.getName() + " was annotated with @Incidence but did not begin with: get, remove");
     }
 
+    private static Implementation intercept(final Class<?> interceptor, final Method method, final Annotation annotation) {
+        final Incidence incidence = (Incidence) annotation;
+        return invokeInterceptor(interceptor, method.getName(), incidence.direction(), incidence.label());
+    }
+
+    private static Implementation interceptRange(final Class<?> interceptor, final Method method, final Annotation annotation) {
+        final Incidence incidence = (Incidence) annotation;
+        return invokeInterceptor(interceptor, method.getName(), incidence.direction(), incidence.label(), incidence.orderBy(), incidence.order(), method.getReturnType());
+    }
+
+    private <E> DynamicType.Builder<E> getEdgesRangeDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(interceptRange(GetEdgesRangeDefaultInterceptor.class, method, annotation));
+    }
+
+    private <E> DynamicType.Builder<E> getEdgesRangeByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
+        return builder.method(ElementMatchers.is(method)).intercept(interceptRange(GetEdgesRangeByTypeInterceptor.class, method, annotation));
+    }
+
     private <E> DynamicType.Builder<E> addEdgeDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddEdgeDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addEdgeByTypeUntypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeByTypeUntypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddEdgeByTypeUntypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addEdgeByObjectUntypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeByObjectUntypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddEdgeByObjectUntypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addEdgeByTypeTypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeByTypeTypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddEdgeByTypeTypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> addEdgeByObjectTypedEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(AddEdgeByObjectTypedEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(AddEdgeByObjectTypedEdgeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesIteratorDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesIteratorDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetEdgesIteratorDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesListDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesListDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetEdgesListDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesSetDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesSetDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetEdgesSetDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesIteratorByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesIteratorByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetEdgesIteratorByTypeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesListByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesListByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetEdgesListByTypeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgesSetByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgesSetByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetEdgesSetByTypeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgeDefault(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgeDefaultInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetEdgeDefaultInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> getEdgeByType(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetEdgeByTypeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(GetEdgeByTypeInterceptor.class, method, annotation));
     }
 
     private <E> DynamicType.Builder<E> removeEdge(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(RemoveEdgeInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(intercept(RemoveEdgeInterceptor.class, method, annotation));
     }
 
     public static final class AddEdgeDefaultInterceptor {
 
-        @RuntimeType
-        public static Object addEdge(@This final VertexFrame thiz, @Origin final Method method) {
+        public static Object addEdge(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             final VertexFrame newVertex = thiz.getGraph().addFramedVertex();
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
 
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException(methodName + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class AddEdgeByTypeUntypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(value = 0) final ClassInitializer vertexType) {
+        public static Object addVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final ClassInitializer vertexType) {
             final Object newNode = thiz.getGraph().addFramedVertex(vertexType);
             assert newNode instanceof VertexFrame;
             final VertexFrame newVertex = ((VertexFrame) newNode);
 
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
             assert vertexType.getInitializationType().isInstance(newNode);
 
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException(methodName + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class AddEdgeByTypeTypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final ClassInitializer vertexType, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
+        public static Object addVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final ClassInitializer vertexType, final ClassInitializer edgeType) {
             final Object newNode = thiz.getGraph().addFramedVertex(vertexType);
             assert newNode instanceof VertexFrame;
             final VertexFrame newVertex = ((VertexFrame) newNode);
 
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
             assert vertexType.getInitializationType().isInstance(newNode);
 
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException(methodName + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label, edgeType);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label, edgeType);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class AddEdgeByObjectUntypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Object addVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final VertexFrame newVertex) {
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException(methodName + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class AddEdgeByObjectTypedEdgeInterceptor {
 
-        @RuntimeType
-        public static Object addVertex(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final VertexFrame newVertex, @RuntimeType @Argument(1) final ClassInitializer edgeType) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Object addVertex(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final VertexFrame newVertex, final ClassInitializer edgeType) {
             switch (direction) {
                 case BOTH:
-                    throw new IllegalStateException(method.getName() + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
+                    throw new IllegalStateException(methodName + " is annotated with direction BOTH, this is not allowed for add methods annotated with @Incidence.");
                 case IN:
                     return thiz.getGraph().addFramedEdge(newVertex, thiz, label, edgeType);
                 case OUT:
                     return thiz.getGraph().addFramedEdge(thiz, newVertex, label, edgeType);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class GetEdgesIteratorDefaultInterceptor {
 
-        @RuntimeType
-        public static Iterator getEdges(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Iterator getEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             switch (direction) {
                 case BOTH:
                     return thiz.traverse(input -> input.bothE(label)).frame(VertexFrame.class);
@@ -301,20 +298,14 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> input.outE(label)).frame(VertexFrame.class);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class GetEdgesListDefaultInterceptor {
 
-        @RuntimeType
-        public static List getEdges(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static List getEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             switch (direction) {
                 case BOTH:
                     return thiz.traverse(input -> input.bothE(label)).toList(VertexFrame.class);
@@ -323,20 +314,14 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> input.outE(label)).toList(VertexFrame.class);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class GetEdgesSetDefaultInterceptor {
 
-        @RuntimeType
-        public static Set getEdges(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Set getEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             switch (direction) {
                 case BOTH:
                     return thiz.traverse(input -> input.bothE(label)).toSet(VertexFrame.class);
@@ -345,19 +330,14 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> input.outE(label)).toSet(VertexFrame.class);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class GetEdgesIteratorByTypeInterceptor {
 
-        @RuntimeType
-        public static Iterator getEdges(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Iterator getEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             switch (direction) {
@@ -368,19 +348,14 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> resolver.hasType(input.outE(label), type)).frame(type);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class GetEdgesListByTypeInterceptor {
 
-        @RuntimeType
-        public static List getEdges(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static List getEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             switch (direction) {
@@ -391,19 +366,14 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> resolver.hasType(input.outE(label), type)).toList(type);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class GetEdgesSetByTypeInterceptor {
 
-        @RuntimeType
-        public static Set getEdges(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Set getEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             switch (direction) {
@@ -414,20 +384,14 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> resolver.hasType(input.outE(label), type)).toSet(type);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class GetEdgeDefaultInterceptor {
 
-        @RuntimeType
-        public static Object getEdges(@This final VertexFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
-
+        public static Object getEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label) {
             switch (direction) {
                 case BOTH:
                     return thiz.traverse(input -> input.bothE(label)).next(VertexFrame.class);
@@ -436,19 +400,14 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> input.outE(label)).next(VertexFrame.class);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
     public static final class GetEdgeByTypeInterceptor {
 
-        @RuntimeType
-        public static Object getEdge(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Class type) {
-            assert thiz instanceof CachesReflection;
-            final Incidence annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Incidence.class);
-            final Direction direction = annotation.direction();
-            final String label = annotation.label();
+        public static Object getEdge(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final Class type) {
             final TypeResolver resolver = thiz.getGraph().getTypeResolver();
 
             switch (direction) {
@@ -459,15 +418,43 @@ public class IncidenceMethodHandler extends AbstractMethodHandler {
                 case OUT:
                     return thiz.traverse(input -> resolver.hasType(input.outE(label), type)).next(type);
                 default:
-                    throw new IllegalStateException(method.getName() + " is annotated with a direction other than BOTH, IN, or OUT.");
+                    throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
             }
         }
     }
 
+    public static final class GetEdgesRangeDefaultInterceptor {
+
+        public static Object getEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final String orderBy, final Order order, final Class collection, final long offset, final long limit) {
+            return frameAs(thiz.traverse(input -> page(incidentEdges(input, methodName, direction, label), orderBy, order, offset, limit)), collection, EdgeFrame.class);
+        }
+    }
+
+    public static final class GetEdgesRangeByTypeInterceptor {
+
+        public static Object getEdges(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final String orderBy, final Order order, final Class collection, final Class type, final long offset, final long limit) {
+            final TypeResolver resolver = thiz.getGraph().getTypeResolver();
+
+            return frameAs(thiz.traverse(input -> page(resolver.hasType(incidentEdges(input, methodName, direction, label), type), orderBy, order, offset, limit)), collection, type);
+        }
+    }
+
+    private static GraphTraversal<Vertex, Edge> incidentEdges(final GraphTraversal<Vertex, Vertex> input, final String methodName, final Direction direction, final String label) {
+        switch (direction) {
+            case BOTH:
+                return input.bothE(label);
+            case IN:
+                return input.inE(label);
+            case OUT:
+                return input.outE(label);
+            default:
+                throw new IllegalStateException(methodName + " is annotated with a direction other than BOTH, IN, or OUT.");
+        }
+    }
+
     public static final class RemoveEdgeInterceptor {
 
-        @RuntimeType
-        public static void removeEdge(@This final VertexFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final EdgeFrame edge) {
+        public static void removeEdge(final VertexFrame thiz, final String methodName, final Direction direction, final String label, final EdgeFrame edge) {
             edge.remove();
         }
     }
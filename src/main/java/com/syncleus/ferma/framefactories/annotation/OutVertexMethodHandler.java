@@ -19,10 +19,6 @@ import java.util.function.Function;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.annotations.OutVertex;
 import net.bytebuddy.dynamic.DynamicType;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.implementation.bind.annotation.Origin;
-import net.bytebuddy.implementation.bind.annotation.RuntimeType;
-import net.bytebuddy.implementation.bind.annotation.This;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.Iterator;
@@ -60,14 +56,13 @@ public class OutVertexMethodHandler extends AbstractMethodHandler {
     }
 
     private <E> DynamicType.Builder<E> getNode(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(getVertexInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(invokeInterceptor(getVertexInterceptor.class, method.getReturnType()));
     }
 
     public static final class getVertexInterceptor {
 
-        @RuntimeType
-        public static Object getVertex(@This final EdgeFrame thiz, @Origin final Method method) {
-            return thiz.traverse(GraphTraversal::outV).next(method.getReturnType());
+        public static Object getVertex(final EdgeFrame thiz, final Class<?> vertexType) {
+            return thiz.traverse(GraphTraversal::outV).next(vertexType);
         }
     }
 }
@@ -0,0 +1,76 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories.annotation;
+
+import com.syncleus.ferma.ReflectionCache;
+
+import java.util.Set;
+
+/**
+ * An annotation frame factory which first looks for frame classes generated ahead of time by
+ * {@link FrameClassGenerator}, only generating a frame class at runtime when no precompiled class can be found.
+ */
+public class PrecompiledAnnotationFrameFactory extends AnnotationFrameFactory {
+    private final ClassLoader classLoader;
+
+    /**
+     * Looks up precompiled classes through the class loader of each frame type.
+     *
+     * @param reflectionCache The reflection cache used to inspect annotations.
+     */
+    public PrecompiledAnnotationFrameFactory(final ReflectionCache reflectionCache) {
+        this(reflectionCache, (ClassLoader) null);
+    }
+
+    /**
+     * @param reflectionCache The reflection cache used to inspect annotations.
+     * @param classLoader The class loader precompiled classes are loaded from, or null to use the class loader of each
+     *                    frame type.
+     */
+    public PrecompiledAnnotationFrameFactory(final ReflectionCache reflectionCache, final ClassLoader classLoader) {
+        super(reflectionCache);
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Subclasses can use this constructor to add additional custom method handlers.
+     *
+     * @param reflectionCache The reflection cache used to inspect annotations.
+     * @param handlers The handlers used to generate new annotation support.
+     * @param classLoader The class loader precompiled classes are loaded from, or null to use the class loader of each
+     *                    frame type.
+     */
+    protected PrecompiledAnnotationFrameFactory(final ReflectionCache reflectionCache, final Set<MethodHandler> handlers, final ClassLoader classLoader) {
+        super(reflectionCache, handlers);
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    protected <E> Class<? extends E> findPrecompiledClass(final Class<E> clazz, final boolean vertex) {
+        final ClassLoader loader = (this.classLoader != null ? this.classLoader : clazz.getClassLoader());
+        final Class<?> precompiledClass;
+        try {
+            precompiledClass = Class.forName(generatedClassName(clazz, vertex), false, loader);
+        }
+        catch (final ClassNotFoundException caught) {
+            return null;
+        }
+
+        if (!clazz.isAssignableFrom(precompiledClass) || !CachesReflection.class.isAssignableFrom(precompiledClass))
+            throw new IllegalStateException(precompiledClass.getName() + " is not a frame class generated for " + clazz.getName());
+        return (Class<? extends E>) precompiledClass;
+    }
+}
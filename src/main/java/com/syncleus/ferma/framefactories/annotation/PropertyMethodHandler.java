@@ -20,11 +20,6 @@ import com.syncleus.ferma.annotations.Property;
 import net.bytebuddy.dynamic.DynamicType;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import net.bytebuddy.implementation.MethodDelegation;
-import net.bytebuddy.implementation.bind.annotation.Argument;
-import net.bytebuddy.implementation.bind.annotation.Origin;
-import net.bytebuddy.implementation.bind.annotation.RuntimeType;
-import net.bytebuddy.implementation.bind.annotation.This;
 import net.bytebuddy.matcher.ElementMatchers;
 
 /**
@@ -65,36 +60,23 @@ public class PropertyMethodHandler extends AbstractMethodHandler {
     }
 
     private <E> DynamicType.Builder<E> setProperty(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(SetPropertyInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(invokeInterceptor(SetPropertyInterceptor.class, ((Property) annotation).value()));
     }
 
     private <E> DynamicType.Builder<E> getProperty(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(GetPropertyInterceptor.class));
+        return builder.method(ElementMatchers.is(method)).intercept(invokeInterceptor(GetPropertyInterceptor.class, ((Property) annotation).value(), method.getReturnType().isEnum() ? method.getReturnType() : null));
     }
 
     private <E> DynamicType.Builder<E> removeProperty(final DynamicType.Builder<E> builder, final Method method, final Annotation annotation) {
-        return builder.method(ElementMatchers.is(method)).intercept(MethodDelegation.to(RemovePropertyInterceptor.class));
-    }
-
-    private static Enum getValueAsEnum(final Method method, final Object value) {
-        final Class<Enum> en = (Class<Enum>) method.getReturnType();
-        if (value != null)
-            return Enum.valueOf(en, value.toString());
-
-        return null;
+        return builder.method(ElementMatchers.is(method)).intercept(invokeInterceptor(RemovePropertyInterceptor.class, ((Property) annotation).value()));
     }
 
     public static final class GetPropertyInterceptor {
 
-        @RuntimeType
-        public static Object getProperty(@This final ElementFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Property annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Property.class);
-            final String value = annotation.value();
-
-            final Object obj = thiz.getProperty(value);
-            if (method.getReturnType().isEnum())
-                return getValueAsEnum(method, obj);
+        public static Object getProperty(final ElementFrame thiz, final String key, final Class<Enum> enumType) {
+            final Object obj = thiz.getProperty(key);
+            if (enumType != null && obj != null)
+                return Enum.valueOf(enumType, obj.toString());
             else
                 return obj;
         }
@@ -102,27 +84,18 @@ public class PropertyMethodHandler extends AbstractMethodHandler {
 
     public static final class SetPropertyInterceptor {
 
-        @RuntimeType
-        public static void setProperty(@This final ElementFrame thiz, @Origin final Method method, @RuntimeType @Argument(0) final Object obj) {
-            assert thiz instanceof CachesReflection;
-            final Property annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Property.class);
-            final String value = annotation.value();
-
+        public static void setProperty(final ElementFrame thiz, final String key, final Object obj) {
             if ((obj != null) && (obj.getClass().isEnum()))
-                thiz.setProperty(value, ((Enum<?>) obj).name());
+                thiz.setProperty(key, ((Enum<?>) obj).name());
             else
-                thiz.setProperty(value, obj);
+                thiz.setProperty(key, obj);
         }
     }
 
     public static final class RemovePropertyInterceptor {
 
-        public static void removeProperty(@This final ElementFrame thiz, @Origin final Method method) {
-            assert thiz instanceof CachesReflection;
-            final Property annotation = ((CachesReflection) thiz).getReflectionCache().getAnnotation(method, Property.class);
-            final String value = annotation.value();
-
-            thiz.getElement().property(value).remove();
+        public static void removeProperty(final ElementFrame thiz, final String key) {
+            thiz.setProperty(key, null);
         }
     }
 }
@@ -32,6 +32,20 @@ public class ReflectionUtility {
     private static final String ADD = "add";
     private static final String IS = "is";
     private static final String CAN = "can";
+    private static final String COUNT = "count";
+
+    private static final ClassValue<Set<String>> PROPERTY_KEYS = new ClassValue<Set<String>>() {
+        @Override
+        protected Set<String> computeValue(final Class<?> type) {
+            final Set<String> keys = new HashSet<>();
+            for (final Method method : type.getMethods())
+                addPropertyKey(method, keys);
+            for (Class<?> current = type; current != null; current = current.getSuperclass())
+                for (final Method method : current.getDeclaredMethods())
+                    addPropertyKey(method, keys);
+            return Collections.unmodifiableSet(keys);
+        }
+    };
 
     public static boolean isGetMethod(final Method method) {
         final Property propertyAnnotation = method.getAnnotation(Property.class);
@@ -160,6 +174,33 @@ public class ReflectionUtility {
         return method.getName().startsWith(ADD);
     }
 
+    public static boolean isCountMethod(final Method method) {
+        final Adjacency adjacencyAnnotation = method.getAnnotation(Adjacency.class);
+        if( adjacencyAnnotation != null ) {
+            final Adjacency.Operation operation = adjacencyAnnotation.operation();
+            if( operation != null && operation != Adjacency.Operation.AUTO ) {
+                if( operation == Adjacency.Operation.COUNT)
+                    return true;
+                else
+                    return false;
+            }
+        }
+
+        return method.getName().startsWith(COUNT) && (returnsCount(method) || returnsBoolean(method));
+    }
+
+    public static boolean returnsCount(final Method method) {
+        return method.getReturnType() == Long.TYPE || method.getReturnType() == Long.class || returnsInt(method);
+    }
+
+    public static boolean returnsInt(final Method method) {
+        return method.getReturnType() == Integer.TYPE || method.getReturnType() == Integer.class;
+    }
+
+    public static boolean returnsBoolean(final Method method) {
+        return method.getReturnType() == Boolean.TYPE || method.getReturnType() == Boolean.class;
+    }
+
     public static boolean acceptsIterator(final Method method, int parameterIndex) {
         return (parameterIndex + 1) == method.getParameterTypes().length && Iterator.class.isAssignableFrom(method.getParameterTypes()[parameterIndex]);
     }
@@ -172,6 +213,15 @@ public class ReflectionUtility {
         return (parameterIndex + 1) == method.getParameterTypes().length && VertexFrame.class.isAssignableFrom(method.getParameterTypes()[parameterIndex]);
     }
 
+    public static boolean acceptsRange(final Method method, int parameterIndex) {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        return (parameterIndex + 2) == parameterTypes.length && isRangeBound(parameterTypes[parameterIndex]) && isRangeBound(parameterTypes[parameterIndex + 1]);
+    }
+
+    private static boolean isRangeBound(final Class<?> type) {
+        return type == Long.TYPE || type == Integer.TYPE;
+    }
+
     public static boolean returnsIterator(final Method method) {
         return Iterator.class.isAssignableFrom(method.getReturnType());
     }
@@ -184,6 +234,10 @@ public class ReflectionUtility {
         return Set.class.isAssignableFrom(method.getReturnType());
     }
 
+    public static boolean returnsCollection(final Method method) {
+        return returnsIterator(method) || returnsList(method) || returnsSet(method);
+    }
+
     public static Type getType(final Type[] types, final int pos) {
         if (pos >= types.length)
             throw new IndexOutOfBoundsException("No type can be found at position " + pos);
@@ -219,4 +273,21 @@ public class ReflectionUtility {
         return getActualType(returnType, 0);
 
     }
+
+    /**
+     * Returns the property keys accessed through the Property annotated methods of a frame type, including inherited
+     * methods.
+     *
+     * @param type the frame type to inspect.
+     * @return the property keys declared by the type.
+     */
+    public static Set<String> getPropertyKeys(final Class<?> type) {
+        return PROPERTY_KEYS.get(type);
+    }
+
+    private static void addPropertyKey(final Method method, final Set<String> keys) {
+        final Property propertyAnnotation = method.getAnnotation(Property.class);
+        if( propertyAnnotation != null )
+            keys.add(propertyAnnotation.value());
+    }
 }
@@ -19,6 +19,7 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 
 import com.syncleus.ferma.DelegatingTransaction;
+import com.syncleus.ferma.FrameSession;
 import com.syncleus.ferma.WrappedFramedGraph;
 
 /**
@@ -27,6 +28,7 @@ import com.syncleus.ferma.WrappedFramedGraph;
 public abstract class AbstractTx<G extends FramedTxGraph> extends DelegatingTransaction implements Tx {
 
     private boolean isSuccess = false;
+    private final FrameSession frameSession = new FrameSession();
 
     public AbstractTx(Transaction delegate, WrappedFramedGraph<? extends Graph> parentGraph) {
        super(delegate, parentGraph);
@@ -42,6 +44,17 @@ public abstract class AbstractTx<G extends FramedTxGraph> extends DelegatingTran
         isSuccess = false;
     }
 
+    /**
+     * Return the identity map of the frames created within this transaction. It is active on the thread while this
+     * transaction is the active transaction, and cleared whenever the transaction is committed, rolled back or
+     * closed.
+     * 
+     * @return The frame session of the transaction.
+     */
+    public FrameSession getFrameSession() {
+        return frameSession;
+    }
+
     /**
      * Return the state of the success status flag.
      * 
@@ -54,10 +67,14 @@ public abstract class AbstractTx<G extends FramedTxGraph> extends DelegatingTran
     @Override
     public void close() {
         Tx.setActive(null);
-        if (isSuccess()) {
-            commit();
-        } else {
-            rollback();
+        try {
+            if (isSuccess()) {
+                commit();
+            } else {
+                rollback();
+            }
+        } finally {
+            getFrameSession().clear();
         }
         getDelegate().close();
     }
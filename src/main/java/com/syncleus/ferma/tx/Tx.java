@@ -17,6 +17,7 @@ package com.syncleus.ferma.tx;
 
 import java.io.IOException;
 
+import com.syncleus.ferma.FrameSession;
 import com.syncleus.ferma.WrappedTransaction;
 
 /**
@@ -40,6 +41,7 @@ public interface Tx extends WrappedTransaction {
      */
     public static void setActive(Tx tx) {
         Tx.threadLocalGraph.set(tx);
+        FrameSession.setActive(tx instanceof AbstractTx ? ((AbstractTx<?>) tx).getFrameSession() : null);
     }
 
     /**
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.typeresolvers;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+
+import java.util.Set;
+
+/**
+ * This type resolver stores a short type code from a {@link TypeCodeRegistry} on the element instead of the Java class
+ * name, keeping the type resolution property small. Otherwise it behaves like the {@link PolymorphicTypeResolver}.
+ */
+public class CompactTypeResolver implements TypeResolver {
+    private final TypeCodeRegistry registry;
+    private final String typeResolutionKey;
+
+    /**
+     * @param registry the registry mapping type codes to frame types.
+     */
+    public CompactTypeResolver(final TypeCodeRegistry registry) {
+        this(registry, PolymorphicTypeResolver.TYPE_RESOLUTION_KEY);
+    }
+
+    /**
+     * @param registry the registry mapping type codes to frame types.
+     * @param typeResolutionKey The key used to identfy a element's type.
+     */
+    public CompactTypeResolver(final TypeCodeRegistry registry, final String typeResolutionKey) {
+        if( registry == null )
+            throw new IllegalArgumentException("registry can not be null");
+        if( typeResolutionKey == null )
+            throw new IllegalArgumentException("typeResolutionKey can not be null");
+
+        this.registry = registry;
+        this.typeResolutionKey = typeResolutionKey;
+    }
+
+    @Override
+    public <T> Class<? extends T> resolve(final Element element, final Class<T> kind) {
+        final Property<String> typeCode = element.<String>property(this.typeResolutionKey);
+        if( !typeCode.isPresent() )
+            return kind;
+
+        return (Class<? extends T>) PolymorphicTypeResolver.resolveKind(this.registry.getType(typeCode.value()), kind);
+    }
+
+    @Override
+    public Class<?> resolve(final Element element) {
+        final Property<String> typeCode = element.<String>property(this.typeResolutionKey);
+
+        if( typeCode.isPresent() )
+            return this.registry.getType(typeCode.value());
+        else
+            return null;
+    }
+
+    @Override
+    public void init(final Element element, final Class<?> kind) {
+        element.property(this.typeResolutionKey, this.registry.getCode(kind));
+    }
+
+    @Override
+    public Object[] initKeyValues(final Class<?> kind) {
+        return new Object[]{this.typeResolutionKey, this.registry.getCode(kind)};
+    }
+
+    @Override
+    public void deinit(final Element element) {
+        element.property(this.typeResolutionKey).remove();
+    }
+
+    @Override
+    public <P extends Element, T extends Element> GraphTraversal<P, T> hasType(final GraphTraversal<P, T> traverser, final Class<?> type) {
+        final Set<? extends String> allAllowedValues = this.registry.getSubTypeCodes(type);
+        return traverser.has(typeResolutionKey, org.apache.tinkerpop.gremlin.process.traversal.P.within(allAllowedValues));
+    }
+
+    @Override
+    public <P extends Element, T extends Element> GraphTraversal<P, T> hasNotType(final GraphTraversal<P, T> traverser, final Class<?> type) {
+        final Set<? extends String> allAllowedValues = this.registry.getSubTypeCodes(type);
+        return traverser.or(__.hasNot(typeResolutionKey), __.has(typeResolutionKey, org.apache.tinkerpop.gremlin.process.traversal.P.without(allAllowedValues)));
+    }
+}
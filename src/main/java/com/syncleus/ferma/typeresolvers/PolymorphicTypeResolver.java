@@ -19,16 +19,20 @@ import com.syncleus.ferma.AbstractEdgeFrame;
 import com.syncleus.ferma.AbstractVertexFrame;
 import com.syncleus.ferma.EdgeFrame;
 import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.TransactionEpoch;
 import com.syncleus.ferma.VertexFrame;
+import com.google.common.cache.CacheBuilder;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
-import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This type resolver will use the Java class stored in the 'java_class' on
@@ -36,9 +40,23 @@ import java.util.function.Predicate;
  */
 public class PolymorphicTypeResolver implements TypeResolver {
     public final static String TYPE_RESOLUTION_KEY = "ferma_type";
+    /**
+     * The number of element types remembered per thread when element types are cached, the least recently used are
+     * forgotten first.
+     */
+    public final static int ELEMENT_TYPE_CACHE_SIZE = 10000;
 
     private final ReflectionCache reflectionCache;
     private final String typeResolutionKey;
+    // keyed through ClassValue and holding resolved classes weakly, so a long-lived resolver does not pin the class
+    // loader of a redeployed model
+    private final ClassValue<ConcurrentMap<String, Class<?>>> resolutionCache = new ClassValue<ConcurrentMap<String, Class<?>>>() {
+        @Override
+        protected ConcurrentMap<String, Class<?>> computeValue(final Class<?> kind) {
+            return CacheBuilder.newBuilder().weakValues().<String, Class<?>>build().asMap();
+        }
+    };
+    private final ThreadLocal<ElementTypes> elementTypeCache;
 
     /**
      * Creates a new SimpleTypeResolver with a typing engine that can recognize the specified types. While these types
@@ -50,6 +68,7 @@ public class PolymorphicTypeResolver implements TypeResolver {
     public PolymorphicTypeResolver() {
         this.reflectionCache = new ReflectionCache();
 	this.typeResolutionKey = TYPE_RESOLUTION_KEY;
+        this.elementTypeCache = null;
     }
 
     /**
@@ -63,6 +82,7 @@ public class PolymorphicTypeResolver implements TypeResolver {
     public PolymorphicTypeResolver(final String typeResolutionKey) {
         this.reflectionCache = new ReflectionCache();
 	this.typeResolutionKey = typeResolutionKey;
+        this.elementTypeCache = null;
     }
 
     /**
@@ -76,6 +96,7 @@ public class PolymorphicTypeResolver implements TypeResolver {
     public PolymorphicTypeResolver(final ReflectionCache reflectionCache) {
         this.reflectionCache = reflectionCache;
 	this.typeResolutionKey = TYPE_RESOLUTION_KEY;
+        this.elementTypeCache = null;
     }
 
     /**
@@ -88,21 +109,49 @@ public class PolymorphicTypeResolver implements TypeResolver {
      * @since 2.0.0
      */
     public PolymorphicTypeResolver(final ReflectionCache reflectionCache, final String typeResolutionKey) {
+        this(reflectionCache, typeResolutionKey, false);
+    }
+
+    /**
+     * Creates a new SimpleTypeResolver which can optionally remember the type of each element it resolved, so framing
+     * the same element again does not read the type property from the graph. The remembered types are kept per thread,
+     * matching the thread bound transactions of TinkerPop, and belong to the current {@link TransactionEpoch}: they are
+     * forgotten once the transaction is committed or rolled back through a {@link com.syncleus.ferma.DelegatingTransaction}.
+     * At most {@link #ELEMENT_TYPE_CACHE_SIZE} types are remembered per thread, and {@link #clearElementTypeCache()}
+     * forgets them at any time. Types changed through this resolver update the cache, types written to the graph by
+     * other means are not seen until the transaction ends or the cache is cleared.
+     *
+     * @param reflectionCache the ReflectionCache used to examine the type hierarchy and do general reflection.
+     * @param typeResolutionKey The key used to identfy a element's type.
+     * @param cacheElementTypes True if the type of each resolved element should be remembered until the cache is
+     *                          cleared.
+     */
+    public PolymorphicTypeResolver(final ReflectionCache reflectionCache, final String typeResolutionKey, final boolean cacheElementTypes) {
         this.reflectionCache = reflectionCache;
-	this.typeResolutionKey = typeResolutionKey;
+        this.typeResolutionKey = typeResolutionKey;
+        this.elementTypeCache = (cacheElementTypes ? new ThreadLocal<>() : null);
     }
 
     @Override
     public <T> Class<? extends T> resolve(final Element element, final Class<T> kind) {
-        final Property<String> nodeClazzProperty = element.<String>property(this.typeResolutionKey);
-        final String nodeClazz;
-        if( nodeClazzProperty.isPresent() )
-            nodeClazz = nodeClazzProperty.value();
-        else
+        final String nodeClazz = getTypeName(element);
+        if( nodeClazz == null )
             return kind;
 
-        final Class<T> nodeKind = (Class<T>) this.reflectionCache.forName(nodeClazz);
+        final ConcurrentMap<String, Class<?>> kindResolutions = this.resolutionCache.get(kind);
+        Class<?> resolvedKind = kindResolutions.get(nodeClazz);
+        if( resolvedKind == null ) {
+            resolvedKind = resolveKind(nodeClazz, kind);
+            kindResolutions.putIfAbsent(nodeClazz, resolvedKind);
+        }
+        return (Class<? extends T>) resolvedKind;
+    }
+
+    private Class<?> resolveKind(final String nodeClazz, final Class<?> kind) {
+        return resolveKind(this.reflectionCache.forName(nodeClazz), kind);
+    }
 
+    static Class<?> resolveKind(final Class<?> nodeKind, final Class<?> kind) {
         if (kind.isAssignableFrom(nodeKind) || kind.equals(VertexFrame.class) || kind.equals(EdgeFrame.class) || kind.equals(AbstractVertexFrame.class) || kind.equals(AbstractEdgeFrame.class) || kind.
               equals(Object.class))
             return nodeKind;
@@ -112,22 +161,67 @@ public class PolymorphicTypeResolver implements TypeResolver {
     
     @Override
     public Class<?> resolve(final Element element) {
-        final Property<String> typeResolutionName = element.<String>property(this.typeResolutionKey);
+        final String typeResolutionName = getTypeName(element);
 
-        if( typeResolutionName.isPresent() )
-            return this.reflectionCache.forName(typeResolutionName.value());
+        if( typeResolutionName != null )
+            return this.reflectionCache.forName(typeResolutionName);
         else
             return null;
     }
 
+    /**
+     * Forgets the element types remembered by the current thread, does nothing if element types are not cached.
+     */
+    public void clearElementTypeCache() {
+        if( this.elementTypeCache != null )
+            this.elementTypeCache.remove();
+    }
+
+    private String getTypeName(final Element element) {
+        if( this.elementTypeCache == null )
+            return readTypeName(element);
+
+        final Map<Element, Optional<String>> elementTypes = getElementTypes();
+        Optional<String> typeName = elementTypes.get(element);
+        if( typeName == null ) {
+            typeName = Optional.ofNullable(readTypeName(element));
+            elementTypes.put(element, typeName);
+        }
+        return typeName.orElse(null);
+    }
+
+    private Map<Element, Optional<String>> getElementTypes() {
+        final TransactionEpoch epoch = TransactionEpoch.current();
+        ElementTypes elementTypes = this.elementTypeCache.get();
+        if( elementTypes == null || elementTypes.epoch != epoch ) {
+            elementTypes = new ElementTypes(epoch);
+            this.elementTypeCache.set(elementTypes);
+        }
+        return elementTypes;
+    }
+
+    private String readTypeName(final Element element) {
+        final Property<String> typeResolutionName = element.<String>property(this.typeResolutionKey);
+        return (typeResolutionName.isPresent() ? typeResolutionName.value() : null);
+    }
+
     @Override
     public void init(final Element element, final Class<?> kind) {
         element.property(this.typeResolutionKey, kind.getName());
+        if( this.elementTypeCache != null )
+            getElementTypes().put(element, Optional.of(kind.getName()));
+    }
+    
+    @Override
+    public Object[] initKeyValues(final Class<?> kind) {
+        return new Object[]{this.typeResolutionKey, kind.getName()};
     }
     
     @Override
     public void deinit(final Element element) {
         element.property(this.typeResolutionKey).remove();
+        if( this.elementTypeCache != null )
+            getElementTypes().put(element, Optional.empty());
     }
 
     @Override
@@ -139,20 +233,20 @@ public class PolymorphicTypeResolver implements TypeResolver {
     @Override
     public <P extends Element, T extends Element> GraphTraversal<P, T> hasNotType(final GraphTraversal<P, T> traverser, final Class<?> type) {
         final Set<? extends String> allAllowedValues = this.reflectionCache.getSubTypeNames(type.getName());
-        return traverser.filter(new Predicate<Traverser<T>>() {
-            @Override
-            public boolean test(final Traverser<T> toCheck) {
-                final Property<String> property = toCheck.get().property(typeResolutionKey);
-                if( !property.isPresent() )
-                    return true;
-
-                final String resolvedType = property.value();
-                if( allAllowedValues.contains(resolvedType) )
-                    return false;
-                else
-                    return true;
-            }
-        });
+        return traverser.or(__.hasNot(typeResolutionKey), __.has(typeResolutionKey, org.apache.tinkerpop.gremlin.process.traversal.P.without(allAllowedValues)));
     }
 
+    private static final class ElementTypes extends LinkedHashMap<Element, Optional<String>> {
+        private final TransactionEpoch epoch;
+
+        ElementTypes(final TransactionEpoch epoch) {
+            super(16, 0.75f, true);
+            this.epoch = epoch;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Element, Optional<String>> eldest) {
+            return size() > ELEMENT_TYPE_CACHE_SIZE;
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.typeresolvers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Maps short, stable type codes to the frame types they stand for. The codes are stored on elements by the
+ * {@link CompactTypeResolver} in place of fully qualified class names. Once a code has been written to a graph it must
+ * keep referring to the same type.
+ */
+public class TypeCodeRegistry {
+    private final Map<String, Class<?>> typesByCode;
+    private final Map<Class<?>, String> codesByType;
+    private final ConcurrentMap<Class<?>, Set<String>> subTypeCodes = new ConcurrentHashMap<>();
+
+    /**
+     * @param typesByCode the frame type each code stands for, every type may only have one code.
+     */
+    public TypeCodeRegistry(final Map<String, ? extends Class<?>> typesByCode) {
+        if( typesByCode == null )
+            throw new IllegalArgumentException("typesByCode can not be null");
+
+        final Map<Class<?>, String> codesByType = new HashMap<>();
+        for (final Map.Entry<String, ? extends Class<?>> entry : typesByCode.entrySet()) {
+            if( entry.getKey() == null || entry.getValue() == null )
+                throw new IllegalArgumentException("type codes and types can not be null");
+            final String previousCode = codesByType.put(entry.getValue(), entry.getKey());
+            if( previousCode != null )
+                throw new IllegalArgumentException(entry.getValue().getName() + " has more than one type code: " + previousCode + ", " + entry.getKey());
+        }
+
+        this.typesByCode = Collections.unmodifiableMap(new HashMap<>(typesByCode));
+        this.codesByType = Collections.unmodifiableMap(codesByType);
+    }
+
+    /**
+     * @param code a type code.
+     * @return the type the code stands for.
+     * @throws IllegalStateException if the code is not registered.
+     */
+    public Class<?> getType(final String code) {
+        final Class<?> type = this.typesByCode.get(code);
+        if( type == null )
+            throw new IllegalStateException("The type code " + code + " is not registered");
+        return type;
+    }
+
+    /**
+     * @param type a frame type.
+     * @return the code of the type.
+     * @throws IllegalArgumentException if the type is not registered.
+     */
+    public String getCode(final Class<?> type) {
+        final String code = this.codesByType.get(type);
+        if( code == null )
+            throw new IllegalArgumentException(type.getName() + " has no registered type code");
+        return code;
+    }
+
+    /**
+     * @param type a frame type, which does not need to be registered itself.
+     * @return the codes of all registered types assignable to the given type.
+     */
+    public Set<? extends String> getSubTypeCodes(final Class<?> type) {
+        Set<String> codes = this.subTypeCodes.get(type);
+        if( codes == null ) {
+            codes = new HashSet<>();
+            for (final Map.Entry<Class<?>, String> entry : this.codesByType.entrySet())
+                if (type.isAssignableFrom(entry.getKey()))
+                    codes.add(entry.getValue());
+            codes = Collections.unmodifiableSet(codes);
+            this.subTypeCodes.putIfAbsent(type, codes);
+        }
+        return codes;
+    }
+}
@@ -64,6 +64,19 @@ public interface TypeResolver {
      */
     void init(Element element, Class<?> kind);
     
+    /**
+     * The type resolution properties {@link #init(Element, Class)} would write, so they can be passed along when the
+     * element is created instead of being written afterwards.
+     *
+     * @param kind
+     *            The kind of frame the element is created as.
+     * @return The type resolution properties as alternating keys and values, or null if this resolver can only
+     *            initialize elements which already exist.
+     */
+    default Object[] initKeyValues(final Class<?> kind) {
+        return null;
+    }
+    
     /**
      * Called to remove the type resolution properties from an element
      * 
@@ -49,6 +49,11 @@ public class UntypedTypeResolver implements TypeResolver {
     @Override
     public void init(final Element element, final Class<?> kind) {
     }
+
+    @Override
+    public Object[] initKeyValues(final Class<?> kind) {
+        return new Object[0];
+    }
     
     @Override
     public void deinit(final Element element) {
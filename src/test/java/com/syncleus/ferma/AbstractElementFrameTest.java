@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import com.google.common.collect.Sets;
 import com.google.gson.JsonObject;
@@ -31,6 +32,7 @@ import java.io.IOException;
 import java.util.Iterator;
 
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.junit.After;
 
 public class AbstractElementFrameTest {
@@ -72,6 +74,32 @@ public class AbstractElementFrameTest {
         Assert.assertEquals("Bryn", p1.getProperty("name"));
     }
 
+    @Test
+    public void testCachedProperties() {
+        final CachedPerson cached = fg.addFramedVertex(CachedPerson.DEFAULT_INITIALIZER);
+        cached.setName("Bryn");
+        cached.getElement().property("name", "Julia");
+        Assert.assertEquals("Bryn", cached.getName());
+
+        cached.setName("Bryn Cooke");
+        Assert.assertEquals("Bryn Cooke", cached.getElement().value("name"));
+        Assert.assertEquals("Bryn Cooke", cached.getName());
+
+        cached.getElement().property("name", "Julia");
+        new DelegatingTransaction(Mockito.mock(Transaction.class), null).commit();
+        Assert.assertEquals("Julia", cached.getName());
+        cached.getElement().property("name").remove();
+        Assert.assertEquals("Julia", cached.getName());
+        new DelegatingTransaction(Mockito.mock(Transaction.class), null).rollback();
+        Assert.assertNull(cached.getName());
+    }
+
+    @Test
+    public void testUncachedProperties() {
+        p1.getElement().property("name", "Julia");
+        Assert.assertEquals("Julia", p1.getName());
+    }
+
     @Test
     public void testSetStringProperty() {
         p1.setProperty("name", "Bryn Cooke");
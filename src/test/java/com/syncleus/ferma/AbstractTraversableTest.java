@@ -19,10 +19,18 @@ import com.syncleus.ferma.annotations.NetworkGraphTestHelper;
 import com.syncleus.ferma.graphtypes.network.ComputerVertex;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.util.function.TriFunction;
 import org.junit.Assert;
@@ -154,6 +162,183 @@ public abstract class AbstractTraversableTest extends NetworkGraphTestHelper {
         }
     }
     
+    @Test
+    public void testFrameFlyweight() {
+        assertFrameFlyweight(Traversable::frameFlyweight);
+    }
+
+    @Test
+    public void testFrameFlyweightExplicit() {
+        assertFrameFlyweight(Traversable::frameFlyweightExplicit);
+    }
+
+    private void assertFrameFlyweight(BiFunction<Traversable<?, ?>, Class<ComputerVertex>, Iterator<ComputerVertex>> flyweight) {
+        Iterator<ComputerVertex> frames = flyweight.apply(createAdjacentVerticesTraversable(dev2), ComputerVertex.class);
+        Set<String> dev2Adj = new HashSet<>(dev2AdjacentVerticesNames);
+        ComputerVertex first = frames.next();
+        Object firstId = first.getId();
+        Assert.assertTrue(dev2Adj.remove(first.getName()));
+        ComputerVertex second = frames.next();
+        Assert.assertSame(first, second);
+        Assert.assertNotEquals(firstId, second.getId());
+        Assert.assertTrue(dev2Adj.remove(second.getName()));
+        Assert.assertFalse(frames.hasNext());
+    }
+
+    @Test
+    public void testFramePrefetched() {
+        assertFramePrefetched(Traversable::framePrefetched);
+    }
+
+    @Test
+    public void testFramePrefetchedExplicit() {
+        assertFramePrefetched(Traversable::framePrefetchedExplicit);
+    }
+
+    private void assertFramePrefetched(BiFunction<Traversable<?, ?>, Class<ComputerVertex>, Iterator<ComputerVertex>> prefetched) {
+        Iterator<ComputerVertex> frames = prefetched.apply(createAdjacentVerticesTraversable(dev2), ComputerVertex.class);
+        Set<String> dev2Adj = new HashSet<>(dev2AdjacentVerticesNames);
+        while (frames.hasNext()) {
+            ComputerVertex frame = frames.next();
+            String name = frame.getName();
+            Assert.assertTrue(dev2Adj.remove(name));
+
+            frame.getElement().property("name", "CHANGED");
+            Assert.assertEquals(name, frame.getName());
+            frame.setName("RENAMED");
+            Assert.assertEquals("RENAMED", frame.getName());
+            Assert.assertEquals("RENAMED", frame.getElement().value("name"));
+        }
+        Assert.assertTrue(dev2Adj.isEmpty());
+    }
+
+    @Test
+    public void testStream() {
+        assertStream(Traversable::stream);
+    }
+
+    @Test
+    public void testStreamExplicit() {
+        assertStream(Traversable::streamExplicit);
+    }
+
+    @Test
+    public void testStreamShortCircuits() {
+        Traversable<?, ?> traversable = createAdjacentVerticesTraversable(dev2);
+        Assert.assertTrue(traversable.stream(ComputerVertex.class).findFirst().isPresent());
+        Assert.assertTrue(traversable.getRawTraversal().hasNext());
+    }
+
+    @Test
+    public void testStreamParallel() {
+        for (int index = 0; index < 2000; index++)
+            graph.addFramedVertex(ComputerVertex.class).setProperty("order", index);
+
+        List<Integer> orders = createNewTraversable(graph, graph.getRawTraversal().V().has("order").order().by("order")).stream(ComputerVertex.class).parallel().map(frame -> frame.<Integer>getProperty("order")).collect(Collectors.toList());
+        Assert.assertEquals(IntStream.range(0, 2000).boxed().collect(Collectors.toList()), orders);
+    }
+
+    @Test
+    public void testStreamSplits() {
+        for (int index = 0; index < 2000; index++)
+            graph.addFramedVertex(ComputerVertex.class).setProperty("order", index);
+
+        Spliterator<ComputerVertex> spliterator = createNewTraversable(graph, graph.getRawTraversal().V().has("order")).stream(ComputerVertex.class).spliterator();
+        Spliterator<ComputerVertex> prefix = spliterator.trySplit();
+        Assert.assertNotNull(prefix);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(2000, prefix.estimateSize() + spliterator.estimateSize());
+    }
+
+    @Test
+    public void testStreamParallelReusesSessionFrames() {
+        for (int index = 0; index < 2000; index++)
+            graph.addFramedVertex(ComputerVertex.class).setProperty("order", index);
+
+        FrameSession session = new FrameSession();
+        FrameSession.setActive(session);
+        try {
+            ComputerVertex first = createNewTraversable(graph, graph.getRawTraversal().V().has("order", 0)).next(ComputerVertex.class);
+            List<ComputerVertex> frames = createNewTraversable(graph, graph.getRawTraversal().V().has("order").order().by("order")).stream(ComputerVertex.class).parallel().collect(Collectors.toList());
+            Assert.assertSame(first, frames.get(0));
+            Assert.assertEquals(1, session.size());
+        }
+        finally {
+            FrameSession.setActive(null);
+        }
+    }
+
+    private void assertStream(BiFunction<Traversable<?, ?>, Class<ComputerVertex>, Stream<ComputerVertex>> stream) {
+        Set<String> names = stream.apply(createAdjacentVerticesTraversable(dev2), ComputerVertex.class).map(ComputerVertex::getName).collect(Collectors.toSet());
+        Assert.assertEquals(dev2AdjacentVerticesNames, names);
+    }
+
+    @Test
+    public void testToListFramesOnce() {
+        List<? extends ComputerVertex> frames = createAdjacentVerticesTraversable(dev2).toList(ComputerVertex.class);
+        Assert.assertSame(frames.get(0), frames.get(0));
+    }
+
+    @Test
+    public void testToListParallel() {
+        assertToListParallel(Traversable::toListParallel);
+    }
+
+    @Test
+    public void testToListParallelExplicit() {
+        assertToListParallel(Traversable::toListParallelExplicit);
+    }
+
+    @Test
+    public void testToSetParallel() {
+        Set<? extends ComputerVertex> frames = createAdjacentVerticesTraversable(dev2).toSetParallel(ComputerVertex.class, ForkJoinPool.commonPool());
+        Set<String> names = new HashSet<>();
+        for (ComputerVertex frame : frames)
+            names.add(frame.getName());
+        Assert.assertEquals(dev2AdjacentVerticesNames, names);
+    }
+
+    @Test
+    public void testToListParallelUsesCallerSession() {
+        for (int index = 0; index < 2000; index++)
+            graph.addFramedVertex(ComputerVertex.class).setProperty("order", index);
+
+        FrameSession session = new FrameSession();
+        FrameSession.setActive(session);
+        try {
+            ComputerVertex first = createNewTraversable(graph, graph.getRawTraversal().V().has("order").order().by("order")).next(ComputerVertex.class);
+            List<? extends ComputerVertex> frames = createNewTraversable(graph, graph.getRawTraversal().V().has("order").order().by("order")).toListParallel(ComputerVertex.class, ForkJoinPool.commonPool());
+
+            Assert.assertSame(first, frames.get(0));
+            Assert.assertEquals(2000, session.size());
+            Assert.assertSame(frames.get(1999), graph.frameElement(frames.get(1999).getElement(), ComputerVertex.class));
+        }
+        finally {
+            FrameSession.setActive(null);
+        }
+    }
+
+    private void assertToListParallel(TriFunction<Traversable<?, ?>, Class<ComputerVertex>, Executor, List<? extends ComputerVertex>> toListParallel) {
+        for (int index = 0; index < 2000; index++)
+            graph.addFramedVertex(ComputerVertex.class).setProperty("order", index);
+
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = task -> {
+            tasks.incrementAndGet();
+            ForkJoinPool.commonPool().execute(task);
+        };
+        Traversable<?, ?> traversable = createNewTraversable(graph, graph.getRawTraversal().V().has("order").order().by("order"));
+        List<? extends ComputerVertex> frames = toListParallel.apply(traversable, ComputerVertex.class, executor);
+
+        Assert.assertTrue(tasks.get() > 1);
+        Assert.assertEquals(2000, frames.size());
+        for (int index = 0; index < 2000; index++)
+            Assert.assertEquals(Integer.valueOf(index), frames.get(index).getProperty("order"));
+
+        frames.remove(0);
+        Assert.assertEquals(1999, frames.size());
+    }
+
     private Traversable<?, ?> createAdjacentVerticesTraversable(ComputerVertex dev) {
         return createNewTraversable(graph, dev.traverse(input -> input.both().dedup()).getRawTraversal());
     }
@@ -0,0 +1,131 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.google.common.collect.Sets;
+import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
+import java.util.concurrent.TimeUnit;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class BoundedElementCacheTest {
+
+    private DelegatingFramedGraph<TinkerGraph> fg;
+    private BoundedElementCache cache;
+    private Person p1;
+
+    @Before
+    public void init() {
+        fg = new DelegatingFramedGraph<>(TinkerGraph.open(), true, false);
+        p1 = fg.addFramedVertex(Person.DEFAULT_INITIALIZER);
+        p1.setName("Bryn");
+        cache = new BoundedElementCache(100);
+        fg.setElementCache(cache);
+    }
+
+    @Test
+    public void testCachedPropertyRead() {
+        Assert.assertEquals("Bryn", p1.getName());
+        Assert.assertEquals(1, cache.getMissCount());
+        p1.getElement().property("name", "Julia");
+        Assert.assertEquals("Bryn", p1.getName());
+        Assert.assertNull(p1.getProperty("age"));
+        Assert.assertEquals(Sets.newHashSet("name", PolymorphicTypeResolver.TYPE_RESOLUTION_KEY), p1.getPropertyKeys());
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(3, cache.getHitCount());
+    }
+
+    @Test
+    public void testSetPropertyInvalidates() {
+        Assert.assertEquals("Bryn", p1.getName());
+        p1.setName("Julia");
+        Assert.assertEquals("Julia", p1.getName());
+        Assert.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testRollbackInvalidates() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final DelegatingFramedGraph<TinkerGraph> txGraph = new DelegatingFramedGraph<TinkerGraph>(graph, true, false) {
+            @Override
+            boolean supportsTransactions() {
+                return true;
+            }
+        };
+        final Person person = txGraph.addFramedVertex(Person.DEFAULT_INITIALIZER);
+        person.getElement().property("name", "Bryn");
+        txGraph.setElementCache(cache);
+        final DelegatingTransaction tx = new DelegatingTransaction(Mockito.mock(Transaction.class), txGraph);
+        Assert.assertEquals("Bryn", person.getName());
+
+        person.setName("Julia");
+        Assert.assertEquals("Julia", person.getName());
+        Assert.assertTrue(txGraph.getFramedVertex(VertexFrame.class, person.getId()) instanceof Person);
+        Assert.assertEquals(0, cache.size());
+
+        // TinkerGraph is not transactional, so undo the write the way a rollback would
+        person.getElement().property("name", "Bryn");
+        tx.rollback();
+        Assert.assertEquals("Bryn", person.getName());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testRemoveInvalidates() {
+        Assert.assertEquals("Bryn", p1.getName());
+        Assert.assertEquals(1, cache.size());
+        p1.remove();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCachedFrameType() {
+        final Object id = p1.getId();
+        Assert.assertTrue(fg.getFramedVertex(VertexFrame.class, id) instanceof Person);
+        p1.getElement().property(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY, Program.class.getName());
+        Assert.assertTrue(fg.getFramedVertex(VertexFrame.class, id) instanceof Person);
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testMaximumSize() {
+        fg.setElementCache(cache = new BoundedElementCache(1));
+        final Person p2 = fg.addFramedVertex(Person.DEFAULT_INITIALIZER);
+        p1.getName();
+        p2.getName();
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testTimeToLive() throws InterruptedException {
+        fg.setElementCache(cache = new BoundedElementCache(100, 1, TimeUnit.MILLISECONDS));
+        Assert.assertEquals("Bryn", p1.getName());
+        p1.getElement().property("name", "Julia");
+        Thread.sleep(20);
+        Assert.assertEquals("Julia", p1.getName());
+        Assert.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testInvalidMaximumSize() {
+        new BoundedElementCache(0);
+    }
+}
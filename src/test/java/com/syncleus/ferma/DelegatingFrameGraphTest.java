@@ -16,18 +16,27 @@
 package com.syncleus.ferma;
 
 import com.syncleus.ferma.annotations.NetworkGraphTestHelper;
+import com.syncleus.ferma.framefactories.DefaultFrameFactory;
 import com.syncleus.ferma.graphtypes.network.ComputerVertex;
 import com.syncleus.ferma.graphtypes.network.NetworkConnectionEdge;
 import com.syncleus.ferma.graphtypes.network.NetworkDeviceVertex;
 import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 /**
  *
@@ -228,5 +237,140 @@ public class DelegatingFrameGraphTest extends NetworkGraphTestHelper {
                 NetworkConnectionEdge.class);
         assertAllConnections(actual);
     }
-    
+
+    @Test
+    public void testAddFramedVerticesWithoutFrames() {
+        Stream<VertexSpec<ComputerVertex>> specs = IntStream.range(0, 5).mapToObj(index -> new VertexSpec<>(ComputerVertex.class, "name", "BULK" + index));
+        Assert.assertEquals(5, graph.addFramedVertices(specs, 2));
+
+        Element bulk3 = graph.getRawTraversal().V().has("name", "BULK3").next();
+        Assert.assertEquals(ComputerVertex.class.getName(), bulk3.value(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY));
+        Assert.assertTrue(graph.frameElement(bulk3, NetworkDeviceVertex.class) instanceof ComputerVertex);
+    }
+
+    @Test
+    public void testAddFramedVerticesWithFrames() {
+        List<ComputerVertex> initialized = new ArrayList<>();
+        ClassInitializer<ComputerVertex> initializer = new DefaultClassInitializer<ComputerVertex>(ComputerVertex.class) {
+            @Override
+            public void initalize(ComputerVertex frame) {
+                initialized.add(frame);
+            }
+        };
+        List<ComputerVertex> frames = new ArrayList<>();
+        Stream<VertexSpec<ComputerVertex>> specs = Stream.of(new VertexSpec<>(initializer, "name", "BULK0"), new VertexSpec<>(initializer, "name", "BULK1"));
+        Assert.assertEquals(2, graph.addFramedVertices(specs, 10, frames::add));
+
+        Assert.assertEquals(initialized, frames);
+        Assert.assertEquals("BULK0", frames.get(0).getName());
+        Assert.assertEquals("BULK1", frames.get(1).getName());
+    }
+
+    @Test
+    public void testAddFramedEdges() {
+        Stream<EdgeSpec<NetworkConnectionEdge>> specs = Stream.of(new EdgeSpec<>(dev6.id(), dev7.id(), "connects", NetworkConnectionEdge.class, "weight", 1),
+                new EdgeSpec<>(dev7.id(), dev6.id(), "connects", NetworkConnectionEdge.class));
+        Assert.assertEquals(2, graph.addFramedEdges(specs, 1));
+
+        Assert.assertEquals(allConnectionsCount + 2, graph.getRawTraversal().E().count().next().intValue());
+        Element edge = graph.getRawTraversal().V(dev6.id()).outE("connects").next();
+        Assert.assertEquals(1, (int) edge.value("weight"));
+        Assert.assertEquals(NetworkConnectionEdge.class.getName(), edge.value(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY));
+
+        List<NetworkConnectionEdge> frames = new ArrayList<>();
+        graph.addFramedEdges(Stream.of(new EdgeSpec<>(dev6.id(), dev7.id(), "connects", NetworkConnectionEdge.class)), 1, frames::add);
+        Assert.assertEquals(dev7Name, frames.get(0).getTo().getName());
+    }
+
+    @Test
+    public void testAddFramedVerticesWithIds() {
+        Map<String, Object> ids = new HashMap<>();
+        Stream<VertexSpec<ComputerVertex>> specs = IntStream.range(0, 3).mapToObj(index -> new VertexSpec<>(ComputerVertex.class, "name", "BULK" + index));
+        Assert.assertEquals(3, graph.addFramedVerticesWithIds(specs, 2, (spec, id) -> ids.put((String) spec.getKeyValues()[1], id)));
+
+        Assert.assertEquals(3, ids.size());
+        Assert.assertEquals("BULK1", graph.getRawTraversal().V(ids.get("BULK1")).values("name").next());
+        Assert.assertEquals(1, graph.addFramedEdges(Stream.of(new EdgeSpec<>(ids.get("BULK0"), ids.get("BULK2"), "connects", NetworkConnectionEdge.class)), 1));
+        Assert.assertEquals(ids.get("BULK2"), graph.getRawTraversal().V(ids.get("BULK0")).out("connects").id().next());
+    }
+
+    @Test
+    public void testAddFramedEdgesLooksUpVerticesInBatches() {
+        Graph baseGraph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        Vertex out = Mockito.mock(Vertex.class);
+        Vertex in = Mockito.mock(Vertex.class);
+        Mockito.when(out.id()).thenReturn(1L);
+        Mockito.when(in.id()).thenReturn(2L);
+        Mockito.when(baseGraph.vertices(Mockito.<Object>anyVararg())).thenAnswer(invocation -> Stream.of(out, in).iterator());
+        DelegatingFramedGraph<Graph> framedGraph = new DelegatingFramedGraph<>(baseGraph, new DefaultFrameFactory(), new PolymorphicTypeResolver());
+
+        Stream<EdgeSpec<TEdge>> specs = IntStream.range(0, 3).mapToObj(index -> new EdgeSpec<>(1L, 2L, "connects", TEdge.class));
+        Assert.assertEquals(3, framedGraph.addFramedEdges(specs, 10));
+        Mockito.verify(baseGraph, Mockito.times(1)).vertices(Mockito.<Object>anyVararg());
+        Mockito.verify(out, Mockito.times(3)).addEdge("connects", in, PolymorphicTypeResolver.TYPE_RESOLUTION_KEY, TEdge.class.getName());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testAddFramedEdgesMissingVertex() {
+        graph.addFramedEdges(Stream.of(new EdgeSpec<>(dev6.id(), "missing", "connects", NetworkConnectionEdge.class)), 1);
+    }
+
+    @Test
+    public void testAddFramedVerticesCommitInterval() {
+        Graph transactionalGraph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(transactionalGraph.features().graph().supportsTransactions()).thenReturn(true);
+        DelegatingFramedGraph<Graph> framedGraph = new DelegatingFramedGraph<>(transactionalGraph, new DefaultFrameFactory(), new PolymorphicTypeResolver());
+
+        TransactionEpoch epoch = TransactionEpoch.current();
+        framedGraph.addFramedVertices(IntStream.range(0, 5).mapToObj(index -> new VertexSpec<>(TVertex.class)), 2);
+        Mockito.verify(transactionalGraph, Mockito.times(5)).addVertex(PolymorphicTypeResolver.TYPE_RESOLUTION_KEY, TVertex.class.getName());
+        Mockito.verify(transactionalGraph.tx(), Mockito.times(3)).commit();
+        Assert.assertNotSame(epoch, TransactionEpoch.current());
+    }
+
+    @Test
+    public void testAddFramedVerticesKeepsSessionEmpty() {
+        Graph transactionalGraph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(transactionalGraph.features().graph().supportsTransactions()).thenReturn(true);
+        DelegatingFramedGraph<Graph> framedGraph = new DelegatingFramedGraph<>(transactionalGraph, new DefaultFrameFactory(), new PolymorphicTypeResolver());
+
+        FrameSession session = new FrameSession();
+        FrameSession.setActive(session);
+        try {
+            List<Integer> sessionSizes = new ArrayList<>();
+            framedGraph.addFramedVertices(IntStream.range(0, 5).mapToObj(index -> new VertexSpec<>(TVertex.class)), 2, frame -> sessionSizes.add(session.size()));
+            Assert.assertEquals(Arrays.asList(0, 0, 0, 0, 0), sessionSizes);
+            Assert.assertEquals(0, session.size());
+            Mockito.verify(transactionalGraph.tx(), Mockito.times(3)).commit();
+        }
+        finally {
+            FrameSession.setActive(null);
+        }
+    }
+
+    @Test
+    public void testAddFramedVertexWritesTypeOnCreation() {
+        Graph baseGraph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        Vertex baseVertex = Mockito.mock(Vertex.class);
+        Mockito.when(baseGraph.addVertex("name", "jupiter", PolymorphicTypeResolver.TYPE_RESOLUTION_KEY, TVertex.class.getName())).thenReturn(baseVertex);
+        DelegatingFramedGraph<Graph> framedGraph = new DelegatingFramedGraph<>(baseGraph, new DefaultFrameFactory(), new PolymorphicTypeResolver());
+
+        Assert.assertSame(baseVertex, framedGraph.addFramedVertex(TVertex.class, "name", "jupiter").getElement());
+        Mockito.verify(baseVertex, Mockito.never()).property(Mockito.anyString(), Mockito.any());
+    }
+
+    @Test
+    public void testAddFramedEdgeWritesTypeOnCreation() {
+        Graph baseGraph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        Vertex source = Mockito.mock(Vertex.class);
+        Vertex destination = Mockito.mock(Vertex.class);
+        Edge baseEdge = Mockito.mock(Edge.class);
+        Mockito.when(source.addEdge("knows", destination, PolymorphicTypeResolver.TYPE_RESOLUTION_KEY, TEdge.class.getName())).thenReturn(baseEdge);
+        DelegatingFramedGraph<Graph> framedGraph = new DelegatingFramedGraph<>(baseGraph, new DefaultFrameFactory(), new PolymorphicTypeResolver());
+
+        VertexFrame sourceFrame = framedGraph.frameElementExplicit(source, TVertex.class);
+        VertexFrame destinationFrame = framedGraph.frameElementExplicit(destination, TVertex.class);
+        Assert.assertSame(baseEdge, sourceFrame.addFramedEdge("knows", destinationFrame).getElement());
+        Mockito.verify(baseEdge, Mockito.never()).property(Mockito.anyString(), Mockito.any());
+    }
 }
@@ -20,6 +20,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.After;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.InjectStep;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -51,6 +52,13 @@ public class FramedEdgeTest {
         fg.close();
     }
 
+    @Test
+    public void testTraverseFromInjectedElement() {
+        ((DelegatingFramedGraph<?>) fg).setInjectingElements(true);
+        Assert.assertTrue(e1.getRawTraversal().asAdmin().getStartStep() instanceof InjectStep);
+        Assert.assertEquals(p2, e1.traverse(input -> input.inV()).next(Person.class));
+    }
+
     @Test
     public void testLabel() {
         Assert.assertEquals("knows", e1.getLabel());
@@ -20,9 +20,11 @@ import java.util.Map;
 
 import java.util.function.Function;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.InjectStep;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -60,6 +62,13 @@ public class FramedVertexTest {
         fg.close();
     }
 
+    @Test
+    public void testTraverseFromInjectedElement() {
+        ((DelegatingFramedGraph<?>) fg).setInjectingElements(true);
+        Assert.assertTrue(p1.getRawTraversal().asAdmin().getStartStep() instanceof InjectStep);
+        Assert.assertEquals(p2, p1.traverse(OUT_TRAVERSAL).next(Person.class));
+    }
+
     @Test
     public void testOut() {
         Assert.assertEquals(p2, p1.traverse(OUT_TRAVERSAL).next(Person.class));
@@ -337,6 +346,60 @@ public class FramedVertexTest {
         Assert.assertTrue("All " + label + " edges(in) should have remained for other vertices", p3.getRawTraversal().outE(label).count().next() > 0);
     }
 
+    @Test
+    public void testUnlinkOutParallelEdges() {
+        final Person p3 = fg.addFramedVertex(Person.class);
+        final Person p4 = fg.addFramedVertex(Person.class);
+        final Person p5 = fg.addFramedVertex(Person.class);
+
+        p3.addFramedEdge("knows", p4, Knows.class);
+        p3.addFramedEdge("knows", p4, Knows.class);
+        p3.addFramedEdge("knows", p5, Knows.class);
+        p3.addFramedEdge("likes", p4, Knows.class);
+
+        p3.unlinkOut(p4, "knows");
+
+        Assert.assertEquals((Long) 0L, p3.getRawTraversal().outE("knows").where(__.inV().hasId((Object) p4.getId())).count().next());
+        Assert.assertEquals((Long) 1L, p3.getRawTraversal().outE("knows").count().next());
+        Assert.assertEquals((Long) 1L, p3.getRawTraversal().outE("likes").count().next());
+        Assert.assertEquals((Long) 1L, p4.getRawTraversal().inE().count().next());
+    }
+
+    @Test
+    public void testCountEdges() {
+        final Person p3 = fg.addFramedVertex(Person.class);
+        p3.addFramedEdge("knows", p1, Knows.class);
+        p3.addFramedEdge("likes", p1, Knows.class);
+        p2.addFramedEdge("knows", p3, Knows.class);
+
+        Assert.assertEquals(2L, p3.countOut());
+        Assert.assertEquals(1L, p3.countOut("knows"));
+        Assert.assertEquals(1L, p3.countIn("knows"));
+        Assert.assertEquals(0L, p3.countIn("likes"));
+        Assert.assertEquals(3L, p3.countBoth());
+        Assert.assertEquals(2L, p3.countBoth("knows"));
+    }
+
+    @Test
+    public void testHasEdges() {
+        final Person p3 = fg.addFramedVertex(Person.class);
+        final Person p4 = fg.addFramedVertex(Person.class);
+        Assert.assertFalse(p3.hasOut());
+        Assert.assertFalse(p3.hasIn());
+        Assert.assertFalse(p3.hasBoth());
+
+        p3.addFramedEdge("knows", p4, Knows.class);
+        Assert.assertTrue(p3.hasOut());
+        Assert.assertTrue(p3.hasOut("knows"));
+        Assert.assertFalse(p3.hasOut("likes"));
+        Assert.assertFalse(p3.hasIn("knows"));
+        Assert.assertTrue(p4.hasIn("knows"));
+        Assert.assertFalse(p4.hasOut());
+        Assert.assertTrue(p3.hasBoth("knows"));
+        Assert.assertTrue(p4.hasBoth());
+        Assert.assertFalse(p4.hasBoth("likes"));
+    }
+
     @Test
     public void testUnlinkBoth() {
         final String label = "knows";
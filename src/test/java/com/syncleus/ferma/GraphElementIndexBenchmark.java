@@ -0,0 +1,54 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Measures creating a {@link ReflectionCache} from a {@link GraphElementIndex} against scanning the model package on
+ * the classpath.
+ */
+public class GraphElementIndexBenchmark {
+
+    private static final String MODEL_PACKAGE = "com.syncleus.ferma";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void benchmarkStartup() throws IOException {
+        final Set<? extends Class<?>> scannedTypes = new ReflectionCache(MODEL_PACKAGE).getGraphElementTypes();
+        final File outputDirectory = temporaryFolder.newFolder();
+        GraphElementIndex.write(scannedTypes, outputDirectory);
+        final ClassLoader indexLoader =
+                new URLClassLoader(new URL[]{outputDirectory.toURI().toURL()}, getClass().getClassLoader());
+        Assert.assertEquals(scannedTypes, new ReflectionCache(indexLoader).getGraphElementTypes());
+
+        System.out.println(scannedTypes.size() + " graph element types in " + MODEL_PACKAGE);
+        Microbenchmark.measure("ReflectionCache, classpath scan", 1,
+                () -> Microbenchmark.consume(new ReflectionCache(MODEL_PACKAGE)));
+        Microbenchmark.measure("ReflectionCache, GraphElementIndex", 1,
+                () -> Microbenchmark.consume(new ReflectionCache(indexLoader)));
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Minimal timing harness for the {@code *Benchmark} tests, which only run with the {@code benchmark} profile:
+ * {@code mvn test -Pbenchmark}. Each measurement is warmed up and reports the fastest of several rounds, so results are
+ * indicative only and never asserted on.
+ */
+public final class Microbenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static volatile Object sink;
+
+    private Microbenchmark() {
+    }
+
+    /**
+     * Keeps a result reachable so the measured work is not optimized away.
+     *
+     * @param result the result of the measured work.
+     */
+    public static void consume(final Object result) {
+        sink = result;
+    }
+
+    /**
+     * Runs a round repeatedly and reports the time per operation of the fastest round.
+     *
+     * @param name the name the result is reported under.
+     * @param operationsPerRound the number of operations performed by a single round.
+     * @param round the measured work.
+     * @return the time per operation of the fastest round, in nanoseconds.
+     */
+    public static double measure(final String name, final long operationsPerRound, final Runnable round) {
+        return measure(name, operationsPerRound, () -> {
+        }, round);
+    }
+
+    /**
+     * Runs a round repeatedly, each time after an untimed setup, and reports the time per operation of the fastest
+     * round.
+     *
+     * @param name the name the result is reported under.
+     * @param operationsPerRound the number of operations performed by a single round.
+     * @param setup the work preparing each round, which is not measured.
+     * @param round the measured work.
+     * @return the time per operation of the fastest round, in nanoseconds.
+     */
+    public static double measure(final String name, final long operationsPerRound, final Runnable setup,
+                                 final Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            setup.run();
+            round.run();
+        }
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            setup.run();
+            final long start = System.nanoTime();
+            round.run();
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        final double nanosPerOperation = (double) fastest / operationsPerRound;
+        System.out.printf("%-60s %12.1f ns/op%n", name, nanosPerOperation);
+        return nanosPerOperation;
+    }
+
+    /**
+     * Runs an operation on several threads at once and reports the wall-clock time per operation of the fastest round.
+     *
+     * @param name the name the result is reported under.
+     * @param threads the number of threads running the operation concurrently.
+     * @param operationsPerThread the number of times each thread runs the operation in a round.
+     * @param operation the measured operation, given the index of the thread and of the operation.
+     * @return the wall-clock time per operation of the fastest round, in nanoseconds.
+     */
+    public static double measureConcurrently(final String name, final int threads, final int operationsPerThread,
+                                             final Operation operation) {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            return measure(name + " (" + threads + " threads)", (long) threads * operationsPerThread,
+                    () -> runConcurrently(executor, threads, operationsPerThread, operation));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runConcurrently(final ExecutorService executor, final int threads,
+                                        final int operationsPerThread, final Operation operation) {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> workers = new ArrayList<>(threads);
+        for (int thread = 0; thread < threads; thread++) {
+            final int threadIndex = thread;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < operationsPerThread; i++)
+                    operation.run(threadIndex, i);
+                return null;
+            }));
+        }
+
+        start.countDown();
+        try {
+            for (final Future<?> worker : workers)
+                worker.get();
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * An operation measured on several threads concurrently.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run(int thread, int iteration);
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import com.syncleus.ferma.annotations.Adjacency;
+import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.annotations.Property;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Measures annotation lookups through the {@link ReflectionCache} from many threads at once, against the nested
+ * per-method map the cache used before, made thread-safe with a single lock.
+ */
+public class ReflectionCacheBenchmark {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int LOOKUPS_PER_THREAD = 200_000;
+
+    private static final Method[] METHODS = God.class.getMethods();
+
+    @Test
+    public void benchmarkContendedAnnotationLookup() {
+        final LockedAnnotationCache locked = new LockedAnnotationCache();
+        final ReflectionCache unbounded = new ReflectionCache();
+        final ReflectionCache bounded = new ReflectionCache(METHODS.length * 2);
+
+        for (final Method method : METHODS) {
+            Assert.assertEquals(locked.getAnnotation(method, Property.class),
+                    unbounded.getAnnotation(method, Property.class));
+            Assert.assertEquals(locked.getAnnotation(method, Adjacency.class),
+                    bounded.getAnnotation(method, Adjacency.class));
+        }
+
+        Microbenchmark.measureConcurrently("annotation lookup, locked nested maps",
+                THREADS, LOOKUPS_PER_THREAD,
+                (thread, i) -> Microbenchmark.consume(locked.getAnnotation(method(thread, i), Property.class)));
+        Microbenchmark.measureConcurrently("annotation lookup, ReflectionCache unbounded",
+                THREADS, LOOKUPS_PER_THREAD,
+                (thread, i) -> Microbenchmark.consume(unbounded.getAnnotation(method(thread, i), Property.class)));
+        Microbenchmark.measureConcurrently("annotation lookup, ReflectionCache bounded",
+                THREADS, LOOKUPS_PER_THREAD,
+                (thread, i) -> Microbenchmark.consume(bounded.getAnnotation(method(thread, i), Property.class)));
+    }
+
+    private static Method method(final int thread, final int iteration) {
+        return METHODS[(thread + iteration) % METHODS.length];
+    }
+
+    private static final class LockedAnnotationCache {
+        private final Map<Method, Map<Class<? extends Annotation>, Annotation>> annotationCache = new HashMap<>();
+
+        synchronized <E extends Annotation> E getAnnotation(final Method method, final Class<E> annotationType) {
+            final Map<Class<? extends Annotation>, Annotation> annotationsPresent =
+                    this.annotationCache.computeIfAbsent(method, m -> new HashMap<>());
+            if (!annotationsPresent.containsKey(annotationType))
+                annotationsPresent.put(annotationType, method.getAnnotation(annotationType));
+            return (E) annotationsPresent.get(annotationType);
+        }
+    }
+}
@@ -15,20 +15,35 @@
  */
 package com.syncleus.ferma;
 
+import com.syncleus.ferma.annotations.Adjacency;
+import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.annotations.Property;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  *
  * @author rqpa
  */
 public class ReflectionCacheTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
     
     @Test
     public void testGetSubtypeNames() {
@@ -46,6 +61,42 @@ public class ReflectionCacheTest {
         }
     }
     
+    @Test
+    public void testRegister() {
+        ReflectionCache cache = new ReflectionCache(Arrays.asList(ArrayList.class));
+        Assert.assertEquals(1, cache.getSubTypeNames(List.class).size());
+        Assert.assertEquals(Collections.singleton(ArrayList.class.getName()), cache.getSubTypeNames(ArrayList.class));
+
+        cache.register(Arrays.asList(List.class, LinkedList.class));
+        Set<? extends String> listSubTypes = cache.getSubTypeNames(List.class);
+        Assert.assertEquals(3, listSubTypes.size());
+        Assert.assertTrue(listSubTypes.contains(List.class.getName()));
+        Assert.assertTrue(listSubTypes.contains(ArrayList.class.getName()));
+        Assert.assertTrue(listSubTypes.contains(LinkedList.class.getName()));
+        Assert.assertEquals(Collections.singleton(Collection.class.getName()), cache.getSubTypeNames(Collection.class));
+
+        cache.register(Arrays.asList(Collection.class, ArrayList.class));
+        Assert.assertEquals(4, cache.getSubTypeNames(Collection.class).size());
+        Assert.assertEquals(3, cache.getSubTypeNames(List.class).size());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(ArrayList.class, LinkedList.class, List.class, Collection.class)), cache.getGraphElementTypes());
+    }
+
+    @Test
+    public void testGraphElementIndex() throws IOException {
+        File outputDirectory = temporaryFolder.newFolder();
+        GraphElementIndex.write(Arrays.asList(Person.class, Programmer.class, Program.class), outputDirectory);
+        ClassLoader indexLoader = new URLClassLoader(new URL[]{outputDirectory.toURI().toURL()}, getClass().getClassLoader());
+
+        ReflectionCache cache = new ReflectionCache(indexLoader);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(Person.class, Programmer.class, Program.class)), cache.getGraphElementTypes());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(Person.class.getName(), Programmer.class.getName())), cache.getSubTypeNames(Person.class));
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void testMissingGraphElementIndex() throws IOException {
+        new ReflectionCache(new URLClassLoader(new URL[]{temporaryFolder.newFolder().toURI().toURL()}, getClass().getClassLoader()));
+    }
+
     @Test
     public void testForName() {
         ReflectionCache cache = new ReflectionCache();
@@ -60,6 +111,32 @@ public class ReflectionCacheTest {
         cache.forName("org.foo.goo.Moo");
     }
     
+    @Test
+    public void testGetAnnotation() throws NoSuchMethodException {
+        ReflectionCache cache = new ReflectionCache();
+        Method getName = God.class.getMethod("getName");
+        Property property = cache.getAnnotation(getName, Property.class);
+        Assert.assertEquals("name", property.value());
+        Assert.assertSame(property, cache.getAnnotation(getName, Property.class));
+        Assert.assertNull(cache.getAnnotation(getName, Adjacency.class));
+    }
+
+    @Test
+    public void testBoundedCache() throws NoSuchMethodException {
+        ReflectionCache cache = new ReflectionCache(1);
+        Assert.assertEquals(List.class, cache.forName(List.class.getName()));
+        Assert.assertEquals(Double.class, cache.forName(Double.class.getName()));
+        Assert.assertEquals(List.class, cache.forName(List.class.getName()));
+        Assert.assertEquals("name", cache.getAnnotation(God.class.getMethod("getName"), Property.class).value());
+        Assert.assertEquals("age", cache.getAnnotation(God.class.getMethod("getAge"), Property.class).value());
+        Assert.assertEquals("name", cache.getAnnotation(God.class.getMethod("getName"), Property.class).value());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testNegativeCacheSize() {
+        new ReflectionCache(-2);
+    }
+
     @Test (expected = IllegalArgumentException.class)
     public void testBadConstructorCall() {
         createCache(null);
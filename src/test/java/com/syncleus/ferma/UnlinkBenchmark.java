@@ -0,0 +1,76 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Measures {@link VertexFrame#unlinkOut} on a vertex with 100,000 outgoing edges against walking the edges on the
+ * client and comparing the adjacent vertex of each, as unlinking was implemented before.
+ */
+public class UnlinkBenchmark {
+
+    private static final int EDGES = 100_000;
+    private static final int TARGETS = 1_000;
+    private static final String LABEL = "knows";
+
+    private TinkerGraph graph;
+    private VertexFrame hub;
+    private VertexFrame target;
+
+    @Test
+    public void benchmarkUnlinkOut() {
+        this.load();
+        this.walkAndRemove();
+        Assert.assertEquals(EDGES - EDGES / TARGETS, this.hub.countOut(LABEL));
+        this.load();
+        this.hub.unlinkOut(this.target, LABEL);
+        Assert.assertEquals(EDGES - EDGES / TARGETS, this.hub.countOut(LABEL));
+
+        Microbenchmark.measure("unlinkOut of 1 in 1000 neighbours over 100k edges, client walk", 1, this::load,
+                this::walkAndRemove);
+        Microbenchmark.measure("unlinkOut of 1 in 1000 neighbours over 100k edges, traversal", 1, this::load,
+                () -> this.hub.unlinkOut(this.target, LABEL));
+    }
+
+    private void load() {
+        if (this.graph != null)
+            this.graph.close();
+        this.graph = TinkerGraph.open();
+        final FramedGraph framedGraph = new DelegatingFramedGraph<>(this.graph);
+
+        final Vertex hubVertex = this.graph.addVertex();
+        final Vertex[] targets = new Vertex[TARGETS];
+        for (int i = 0; i < TARGETS; i++)
+            targets[i] = this.graph.addVertex();
+        for (int i = 0; i < EDGES; i++)
+            hubVertex.addEdge(LABEL, targets[i % TARGETS]);
+
+        this.hub = framedGraph.frameElement(hubVertex, TVertex.class);
+        this.target = framedGraph.frameElement(targets[0], TVertex.class);
+    }
+
+    private void walkAndRemove() {
+        this.hub.getRawTraversal().outE(LABEL).forEachRemaining((final Edge edge) -> {
+            if (edge.inVertex().equals(this.target.getElement()))
+                edge.remove();
+        });
+    }
+}
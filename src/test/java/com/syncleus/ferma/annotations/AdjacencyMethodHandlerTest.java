@@ -18,10 +18,12 @@ package com.syncleus.ferma.annotations;
 import com.syncleus.ferma.*;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.*;
+import java.util.stream.Collectors;
 import org.junit.After;
 import org.junit.Before;
 
@@ -527,6 +529,32 @@ public class AdjacencyMethodHandlerTest {
         Assert.assertNull(child.getName());
     }
 
+    @Test
+    public void testSetSonsKeepsUnchangedEdges() {
+
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+
+        final God father = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+        final God hercules = father.getSon(God.class);
+        final Edge herculesEdge = hercules.getElement().edges(Direction.OUT, "father").next();
+        herculesEdge.property("since", 1);
+        final God newSon = framedGraph.addFramedVertex(God.DEFAULT_INITIALIZER);
+
+        father.setSonsList(Arrays.asList(hercules, newSon));
+
+        final List<Edge> sonEdges = godGraph.traversal().V((Object) father.getId()).inE("father").toList();
+        Assert.assertEquals(2, sonEdges.size());
+        Assert.assertTrue(sonEdges.contains(herculesEdge));
+        Assert.assertEquals(1, herculesEdge.<Integer>value("since").intValue());
+
+        father.setSonsList(Collections.singletonList(newSon));
+        Assert.assertEquals(1, father.getSonsList(God.class).size());
+        Assert.assertEquals(newSon, father.getSon(God.class));
+        Assert.assertFalse(godGraph.edges(herculesEdge.id()).hasNext());
+    }
+
     @Test
     public void testSetSon() {
 
@@ -648,6 +676,85 @@ public class AdjacencyMethodHandlerTest {
         Assert.assertFalse(father.getSons(God.class).hasNext());
     }
 
+    @Test
+    public void testGetSonsPage() {
+
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+
+        final God saturn = framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class);
+
+        // the sons have distinct names, so the order does not depend on how the graph breaks ties
+        Assert.assertEquals(Arrays.asList("jupiter", "neptune", "pluto"),
+                saturn.getSonsList(0, 10).stream().map(God::getName).collect(Collectors.toList()));
+
+        final List<? extends God> page = saturn.getSonsList(1, 2);
+        Assert.assertEquals(2, page.size());
+        Assert.assertEquals("neptune", page.get(0).getName());
+        Assert.assertEquals("pluto", page.get(1).getName());
+
+        final Iterator<? extends God> reversed = saturn.getSons(God.class, 0, 2);
+        Assert.assertEquals("pluto", reversed.next().getName());
+        Assert.assertEquals("neptune", reversed.next().getName());
+        Assert.assertFalse(reversed.hasNext());
+
+        Assert.assertTrue(saturn.getSonsList(3, 10).isEmpty());
+    }
+
+    @Test
+    public void testGetSonsPageByEdge() {
+
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+
+        final God saturn = framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class);
+        godGraph.traversal().V().has("name", "neptune").outE("father").property("born", 1).iterate();
+        godGraph.traversal().V().has("name", "pluto").outE("father").property("born", 2).iterate();
+        godGraph.traversal().V().has("name", "jupiter").outE("father").property("born", 3).iterate();
+
+        final List<? extends God> page = saturn.getSonsByBirth(1, 2);
+        Assert.assertEquals(2, page.size());
+        Assert.assertEquals("pluto", page.get(0).getName());
+        Assert.assertEquals("jupiter", page.get(1).getName());
+
+        final Set<? extends God> youngest = saturn.getYoungestSons(God.class, 0, 1);
+        Assert.assertEquals(1, youngest.size());
+        Assert.assertEquals("jupiter", youngest.iterator().next().getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetSonsNegativeOffset() {
+
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+
+        final God saturn = framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class);
+        saturn.getSonsList(-1, 2);
+    }
+
+    @Test
+    public void testCountSons() {
+
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+
+        final God father = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+        Assert.assertEquals(1L, father.countSons());
+        Assert.assertTrue(father.hasSons());
+
+        father.addSon(God.DEFAULT_INITIALIZER);
+        Assert.assertEquals(2L, father.countSons());
+        Assert.assertEquals(2, father.countSonsAsInt());
+
+        father.removeEverySon();
+        Assert.assertEquals(0L, father.countSons());
+        Assert.assertFalse(father.hasSons());
+    }
+
     @Test
     public void testRemoveEverySon() {
 
@@ -16,6 +16,7 @@
 package com.syncleus.ferma.annotations;
 
 import com.syncleus.ferma.*;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 
 import java.util.Iterator;
@@ -65,6 +66,18 @@ public interface God extends VertexFrame {
     @Adjacency(label = "father", direction = Direction.IN)
     God getSon();
 
+    @Adjacency(label = "father", direction = Direction.IN, orderBy = "name")
+    List<? extends God> getSonsList(long offset, long limit);
+
+    @Adjacency(label = "father", direction = Direction.IN, orderBy = "name", order = Order.decr)
+    <N extends God> Iterator<? extends N> getSons(Class<? extends N> type, int offset, int limit);
+
+    @Adjacency(label = "father", direction = Direction.IN, orderByEdge = "born")
+    List<? extends God> getSonsByBirth(long offset, long limit);
+
+    @Adjacency(label = "father", direction = Direction.IN, orderByEdge = "born", order = Order.decr)
+    <N extends God> Set<? extends N> getYoungestSons(Class<? extends N> type, long offset, long limit);
+
     @Adjacency(label = "father", direction = Direction.IN)
     <N extends God> Iterator<? extends N> getSons(Class<? extends N> type);
 
@@ -116,6 +129,15 @@ public interface God extends VertexFrame {
     @Adjacency(label = "father", direction = Direction.IN, operation = Adjacency.Operation.REMOVE)
     void deleteSon(God son);
 
+    @Adjacency(label = "father", direction = Direction.IN)
+    long countSons();
+
+    @Adjacency(label = "father", direction = Direction.IN)
+    int countSonsAsInt();
+
+    @Adjacency(label = "father", direction = Direction.IN, operation = Adjacency.Operation.COUNT)
+    boolean hasSons();
+
     @Incidence(label = "father", direction = Direction.IN)
     Iterator<? extends EdgeFrame> getSonEdges();
 
@@ -134,6 +156,12 @@ public interface God extends VertexFrame {
     @Incidence(label = "father", direction = Direction.IN)
     <N extends FatherEdge> Set<? extends N> getSonEdgesSet(Class<? extends N> type);
 
+    @Incidence(label = "father", direction = Direction.IN)
+    <N extends FatherEdge> Set<? extends N> getSonEdgesSet(Class<? extends N> type, long offset, long limit);
+
+    @Incidence(label = "battled", orderBy = "time", order = Order.decr)
+    List<? extends EdgeFrame> getBattlesList(long offset, long limit);
+
     @Incidence(label = "father", direction = Direction.IN)
     EdgeFrame getSonEdge();
 
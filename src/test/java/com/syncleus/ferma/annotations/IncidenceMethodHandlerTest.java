@@ -332,4 +332,22 @@ public class IncidenceMethodHandlerTest {
         father.includeSonEdge(child, FatherEdge.DEFAULT_INITIALIZER);
         Assert.assertTrue(father.getSonEdges(FatherEdge.class).hasNext());
     }
+
+    @Test
+    public void testGetEdgesPage() {
+        final TinkerGraph godGraph = TinkerGraph.open();
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+
+        final God hercules = framedGraph.traverse(input -> input.V().has("name", "hercules")).next(God.class);
+        final List<? extends EdgeFrame> battles = hercules.getBattlesList(0, 2);
+        Assert.assertEquals(2, battles.size());
+        Assert.assertEquals((Integer) 12, battles.get(0).getProperty("time"));
+        Assert.assertEquals((Integer) 2, battles.get(1).getProperty("time"));
+
+        final God saturn = framedGraph.traverse(input -> input.V().has("name", "saturn")).next(God.class);
+        Assert.assertEquals(3, saturn.getSonEdgesSet(FatherEdge.class, 0, 10).size());
+        Assert.assertEquals(1, saturn.getSonEdgesSet(FatherEdge.class, 2, 10).size());
+    }
 }
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.annotations;
+
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.Microbenchmark;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Measures an {@link Adjacency} getter on TinkerGraph with frame traversals starting from a lookup by id and from the
+ * injected bound element.
+ */
+public class InjectedTraversalBenchmark {
+
+    private static final Set<Class<?>> TEST_TYPES = new HashSet<>(Arrays.asList(God.class, FatherEdge.class,
+            GodExtended.class, GodAlternative.class));
+
+    private static final int CALLS_PER_ROUND = 100_000;
+
+    @Test
+    public void benchmarkAdjacencyGetter() {
+        final TinkerGraph godGraph = TinkerGraph.open();
+        GodGraphLoader.load(godGraph);
+
+        final DelegatingFramedGraph<TinkerGraph> lookingUp = new DelegatingFramedGraph<>(godGraph, TEST_TYPES);
+        final DelegatingFramedGraph<TinkerGraph> injecting = new DelegatingFramedGraph<>(godGraph, TEST_TYPES);
+        injecting.setInjectingElements(true);
+
+        final God lookedUpJupiter = jupiter(lookingUp);
+        final God injectedJupiter = jupiter(injecting);
+        Assert.assertEquals(sonNames(lookedUpJupiter), sonNames(injectedJupiter));
+        Assert.assertFalse(sonNames(injectedJupiter).isEmpty());
+
+        Microbenchmark.measure("getSonsList, traversal from V(id)", CALLS_PER_ROUND, () -> {
+            for (int i = 0; i < CALLS_PER_ROUND; i++)
+                Microbenchmark.consume(lookedUpJupiter.getSonsList());
+        });
+        Microbenchmark.measure("getSonsList, traversal from inject(vertex)", CALLS_PER_ROUND, () -> {
+            for (int i = 0; i < CALLS_PER_ROUND; i++)
+                Microbenchmark.consume(injectedJupiter.getSonsList());
+        });
+
+        godGraph.close();
+    }
+
+    private static God jupiter(final DelegatingFramedGraph<?> framedGraph) {
+        return framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+    }
+
+    private static List<String> sonNames(final God father) {
+        return father.getSonsList().stream().map(God::getName).collect(Collectors.toList());
+    }
+}
@@ -18,6 +18,7 @@ package com.syncleus.ferma.annotations;
 import com.syncleus.ferma.DelegatingFramedGraph;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.VertexFrame;
+import com.syncleus.ferma.framefactories.annotation.CachesReflection;
 import com.syncleus.ferma.graphtypes.javaclass.JavaAccessModifier;
 import com.syncleus.ferma.graphtypes.javaclass.JavaGraphLoader;
 import com.syncleus.ferma.graphtypes.javaclass.JavaTypeVertex;
@@ -54,6 +55,21 @@ public class PropertyMethodHandlerTest {
         Assert.assertEquals("jupiter", father.getName());
     }
 
+    @Test
+    public void testPropertyDoesNotConsultReflectionCache() {
+        final Graph godGraph = TinkerGraph.open();
+        GodGraphLoader.load(godGraph);
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph(godGraph, TEST_TYPES);
+
+        final God father = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+        ((CachesReflection) father).setReflectionCache(null);
+        Assert.assertEquals("jupiter", father.getName());
+        father.setName("zeus");
+        Assert.assertEquals("zeus", father.getName());
+        Assert.assertEquals("hercules", father.getSon().getName());
+    }
+
     @Test
     public void testObtainName() {
         final Graph godGraph = TinkerGraph.open();
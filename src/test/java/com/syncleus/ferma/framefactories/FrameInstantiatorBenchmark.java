@@ -0,0 +1,74 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories;
+
+import com.syncleus.ferma.Microbenchmark;
+import com.syncleus.ferma.Person;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.framefactories.annotation.AnnotationFrameFactory;
+import java.util.Collections;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Measures frame instantiation through {@link FrameInstantiator} against {@link Class#newInstance()}, for a plain
+ * frame class and a class generated by the annotation frame factory.
+ */
+public class FrameInstantiatorBenchmark {
+
+    private static final int INSTANCES_PER_ROUND = 1_000_000;
+
+    @Test
+    public void benchmarkPlainFrame() throws ReflectiveOperationException {
+        benchmark("Person", Person.class);
+    }
+
+    @Test
+    public void benchmarkGeneratedFrame() throws ReflectiveOperationException {
+        final AnnotationFrameFactory factory =
+                new AnnotationFrameFactory(new ReflectionCache(Collections.singleton(God.class)));
+        final Class<?> generated = factory.create(TinkerGraph.open().addVertex(), God.class).getClass();
+        Assert.assertNotEquals(God.class, generated);
+
+        benchmark("generated God frame", generated);
+    }
+
+    private static void benchmark(final String name, final Class<?> frameType) throws ReflectiveOperationException {
+        Assert.assertEquals(frameType, FrameInstantiator.instantiate(frameType).getClass());
+        Assert.assertEquals(frameType, frameType.newInstance().getClass());
+
+        Microbenchmark.measure(name + ", Class.newInstance", INSTANCES_PER_ROUND, () -> {
+            try {
+                for (int i = 0; i < INSTANCES_PER_ROUND; i++)
+                    Microbenchmark.consume(frameType.newInstance());
+            }
+            catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Microbenchmark.measure(name + ", FrameInstantiator", INSTANCES_PER_ROUND, () -> {
+            try {
+                for (int i = 0; i < INSTANCES_PER_ROUND; i++)
+                    Microbenchmark.consume(FrameInstantiator.instantiate(frameType));
+            }
+            catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
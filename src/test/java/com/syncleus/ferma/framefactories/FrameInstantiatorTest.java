@@ -0,0 +1,91 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories;
+
+import com.syncleus.ferma.Person;
+import com.syncleus.ferma.annotations.Friend;
+import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.graphtypes.javaclass.invalid.OneArgConstructorVertex;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+
+public class FrameInstantiatorTest {
+
+    @Test
+    public void testInstantiate() throws ReflectiveOperationException {
+        final Person first = FrameInstantiator.instantiate(Person.class);
+        final Person second = FrameInstantiator.instantiate(Person.class);
+        Assert.assertEquals(Person.class, first.getClass());
+        Assert.assertEquals(Person.class, second.getClass());
+        Assert.assertNotSame(first, second);
+    }
+
+    @Test (expected = NoSuchMethodException.class)
+    public void testNoDefaultConstructor() throws ReflectiveOperationException {
+        FrameInstantiator.instantiate(OneArgConstructorVertex.class);
+    }
+
+    @Test (expected = InstantiationException.class)
+    public void testAbstractClass() throws ReflectiveOperationException {
+        FrameInstantiator.instantiate(Friend.class);
+    }
+
+    @Test (expected = InstantiationException.class)
+    public void testInterface() throws ReflectiveOperationException {
+        FrameInstantiator.instantiate(God.class);
+    }
+
+    @Test (expected = IllegalAccessException.class)
+    public void testInaccessibleConstructor() throws ReflectiveOperationException {
+        FrameInstantiator.instantiate(PrivateConstructor.class);
+    }
+
+    @Test
+    public void testCheckedConstructorException() throws ReflectiveOperationException {
+        try {
+            FrameInstantiator.instantiate(CheckedThrowingConstructor.class);
+            Assert.fail("constructor exception was not propagated");
+        }
+        catch (final InvocationTargetException caught) {
+            Assert.assertTrue(caught.getCause() instanceof IOException);
+        }
+    }
+
+    @Test (expected = UnsupportedOperationException.class)
+    public void testUncheckedConstructorException() throws ReflectiveOperationException {
+        FrameInstantiator.instantiate(UncheckedThrowingConstructor.class);
+    }
+
+    public static class PrivateConstructor {
+        private PrivateConstructor() {
+        }
+    }
+
+    public static class CheckedThrowingConstructor {
+        public CheckedThrowingConstructor() throws IOException {
+            throw new IOException();
+        }
+    }
+
+    public static class UncheckedThrowingConstructor {
+        public UncheckedThrowingConstructor() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -16,24 +16,61 @@
 package com.syncleus.ferma.framefactories.annotation;
 
 import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.EdgeFrame;
+import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.ReflectionCache;
 import com.syncleus.ferma.TEdge;
 import com.syncleus.ferma.TVertex;
+import com.syncleus.ferma.VertexFrame;
 import com.syncleus.ferma.annotations.Adjacency;
+import com.syncleus.ferma.annotations.FatherEdge;
+import com.syncleus.ferma.annotations.FatherEdgeExtended;
 import com.syncleus.ferma.annotations.Friend;
 import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.annotations.GodAlternative;
+import com.syncleus.ferma.annotations.GodExtended;
+import com.syncleus.ferma.annotations.GodGraphLoader;
+import com.syncleus.ferma.annotations.GodIntermediate;
+import com.syncleus.ferma.graphtypes.filesystem.DirectoryVertex;
+import com.syncleus.ferma.graphtypes.filesystem.FileVertex;
+import com.syncleus.ferma.graphtypes.filesystem.ParentEdge;
+import com.syncleus.ferma.graphtypes.javaclass.ExtendsEdge;
+import com.syncleus.ferma.graphtypes.javaclass.ImplementsEdge;
+import com.syncleus.ferma.graphtypes.javaclass.JavaClassVertex;
+import com.syncleus.ferma.graphtypes.javaclass.JavaInterfaceVertex;
+import com.syncleus.ferma.graphtypes.javaclass.JavaTypeRelationsEdge;
+import com.syncleus.ferma.graphtypes.javaclass.JavaTypeVertex;
 import com.syncleus.ferma.graphtypes.javaclass.invalid.InvalidFrame;
+import com.syncleus.ferma.graphtypes.javaclass.invalid.NoArgPropertySetter;
 import com.syncleus.ferma.graphtypes.javaclass.invalid.OneArgConstructorVertex;
+import com.syncleus.ferma.graphtypes.network.ComputerVertex;
+import com.syncleus.ferma.graphtypes.network.NetworkConnectionEdge;
+import com.syncleus.ferma.graphtypes.network.NetworkDeviceVertex;
 import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.bytebuddy.dynamic.DynamicType;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -116,4 +153,128 @@ public class AnnotationFrameFactoryTest {
         Edge okElement = Mockito.mock(Edge.class);
         frameFactory.create(okElement, InvalidFrame.class);
     }
+
+    @Test
+    public void testConcurrentCreateGeneratesEachClassOnce() throws Exception {
+        final List<Class<?>> vertexKinds = Arrays.asList(God.class, GodExtended.class, GodIntermediate.class, GodAlternative.class,
+                JavaTypeVertex.class, JavaClassVertex.class, JavaInterfaceVertex.class, NetworkDeviceVertex.class,
+                ComputerVertex.class, FileVertex.class, DirectoryVertex.class, Friend.class);
+        final List<Class<?>> edgeKinds = Arrays.asList(FatherEdge.class, FatherEdgeExtended.class, JavaTypeRelationsEdge.class,
+                ExtendsEdge.class, ImplementsEdge.class, NetworkConnectionEdge.class, ParentEdge.class);
+        final Vertex vertex = fg.addFramedVertex().getElement();
+        final Edge edge = fg.addFramedEdge(fg.addFramedVertex(), fg.addFramedVertex(), "some_label").getElement();
+
+        final int threadCount = 16;
+        final int framesPerThread = 2000;
+        final Map<Class<?>, Set<Class<?>>> constructed = new ConcurrentHashMap<>();
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < threadCount; thread++) {
+                final int offset = thread;
+                results.add(executor.submit(() -> {
+                    startGate.await();
+                    for (int index = 0; index < framesPerThread; index++) {
+                        final int slot = (index + offset) % (vertexKinds.size() + edgeKinds.size());
+                        final boolean isVertex = slot < vertexKinds.size();
+                        final Class<?> kind = isVertex ? vertexKinds.get(slot) : edgeKinds.get(slot - vertexKinds.size());
+                        final Object frame = frameFactory.create(isVertex ? vertex : edge, kind);
+                        Assert.assertTrue(kind.isInstance(frame));
+                        constructed.computeIfAbsent(kind, key -> ConcurrentHashMap.newKeySet()).add(frame.getClass());
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (final Future<?> result : results)
+                result.get(60, TimeUnit.SECONDS);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(vertexKinds.size() + edgeKinds.size(), constructed.size());
+        for (final Map.Entry<Class<?>, Set<Class<?>>> entry : constructed.entrySet())
+            Assert.assertEquals(entry.getKey().getName() + " was generated more than once", 1, entry.getValue().size());
+    }
+
+    @Test
+    public void testWarmUp() {
+        final Set<Class<?>> types = new HashSet<>(Arrays.asList(God.class, GodExtended.class, FatherEdge.class, Friend.class, TVertex.class));
+        final CountingFrameFactory countingFactory = new CountingFrameFactory(new ReflectionCache(types));
+
+        final Map<Class<?>, Long> generationTimes = countingFactory.warmUp();
+        Assert.assertEquals(new HashSet<>(Arrays.asList(God.class, GodExtended.class, FatherEdge.class, Friend.class)), generationTimes.keySet());
+        for (final Long generationTime : generationTimes.values())
+            Assert.assertTrue(generationTime >= 0);
+        Assert.assertEquals(4, countingFactory.generated.get());
+
+        final FramedGraph framedGraph = new DelegatingFramedGraph<>(fg.getBaseGraph(), countingFactory, new PolymorphicTypeResolver(new ReflectionCache(types)));
+        final God god = framedGraph.addFramedVertex(God.class);
+        framedGraph.addFramedVertex(Friend.class);
+        framedGraph.addFramedEdge(god, framedGraph.addFramedVertex(GodExtended.class), "father", FatherEdge.class);
+        Assert.assertEquals(4, countingFactory.generated.get());
+    }
+
+    @Test
+    public void testWarmUpInterfaceWithoutElementType() {
+        final CountingFrameFactory countingFactory = new CountingFrameFactory(new ReflectionCache(Collections.singleton(ElementlessFrame.class)));
+        countingFactory.warmUp();
+        Assert.assertEquals(2, countingFactory.generated.get());
+
+        final TVertex v1 = fg.addFramedVertex();
+        final TEdge e1 = fg.addFramedEdge(v1, fg.addFramedVertex(), "some_label");
+        Assert.assertTrue(countingFactory.create(v1.getElement(), ElementlessFrame.class) instanceof VertexFrame);
+        Assert.assertTrue(countingFactory.create(e1.getElement(), ElementlessFrame.class) instanceof EdgeFrame);
+        Assert.assertEquals(2, countingFactory.generated.get());
+    }
+
+    @Test
+    public void testWarmUpParallel() throws InterruptedException {
+        final Set<Class<?>> types = new HashSet<>(Arrays.asList(God.class, GodExtended.class, GodIntermediate.class, GodAlternative.class,
+                FatherEdge.class, FatherEdgeExtended.class, Friend.class));
+        final CountingFrameFactory countingFactory = new CountingFrameFactory(new ReflectionCache(types));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Assert.assertEquals(types, countingFactory.warmUp(executor).keySet());
+        }
+        finally {
+            executor.shutdown();
+            executor.awaitTermination(60, TimeUnit.SECONDS);
+        }
+        Assert.assertEquals(types.size(), countingFactory.generated.get());
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void testWarmUpInvalidFrame() {
+        new AnnotationFrameFactory(new ReflectionCache(Collections.singleton(NoArgPropertySetter.class))).warmUp();
+    }
+
+    @Test
+    public void testWarmUpFramedGraph() {
+        final ReflectionCache reflectionCache = new ReflectionCache(Arrays.asList(God.class, FatherEdge.class));
+        final Graph godGraph = TinkerGraph.open();
+        GodGraphLoader.load(godGraph);
+        final FramedGraph framedGraph = new DelegatingFramedGraph<>(godGraph, reflectionCache, true, true, true);
+        Assert.assertEquals("jupiter", framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class).getName());
+    }
+
+    public interface ElementlessFrame {
+    }
+
+    private static final class CountingFrameFactory extends AnnotationFrameFactory {
+        private final AtomicInteger generated = new AtomicInteger();
+
+        private CountingFrameFactory(final ReflectionCache reflectionCache) {
+            super(reflectionCache);
+        }
+
+        @Override
+        protected <E> DynamicType.Unloaded<? extends E> makeClass(final Class<E> clazz, final boolean vertex) {
+            generated.incrementAndGet();
+            return super.makeClass(clazz, vertex);
+        }
+    }
 }
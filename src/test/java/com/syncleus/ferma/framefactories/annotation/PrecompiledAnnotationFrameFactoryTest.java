@@ -0,0 +1,163 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.framefactories.annotation;
+
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.FramedGraph;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.VertexFrame;
+import com.syncleus.ferma.annotations.FatherEdge;
+import com.syncleus.ferma.annotations.God;
+import com.syncleus.ferma.annotations.GodExtended;
+import com.syncleus.ferma.annotations.GodGraphLoader;
+import com.syncleus.ferma.annotations.GraphElement;
+import com.syncleus.ferma.annotations.Property;
+import com.syncleus.ferma.typeresolvers.PolymorphicTypeResolver;
+import net.bytebuddy.dynamic.DynamicType;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class PrecompiledAnnotationFrameFactoryTest {
+
+    private static final Set<Class<?>> TEST_TYPES = new HashSet<>(Arrays.asList(new Class<?>[]{God.class, FatherEdge.class, GodExtended.class}));
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testGenerateClasses() throws IOException {
+        final File outputDirectory = temporaryFolder.newFolder();
+        final ReflectionCache reflectionCache = new ReflectionCache(TEST_TYPES);
+
+        final List<String> generated = new FrameClassGenerator(new AnnotationFrameFactory(reflectionCache)).generate(TEST_TYPES, outputDirectory);
+
+        Assert.assertEquals(3, generated.size());
+        Assert.assertTrue(generated.contains(God.class.getName() + AbstractAnnotationFrameFactory.VERTEX_FRAME_SUFFIX));
+        Assert.assertTrue(generated.contains(GodExtended.class.getName() + AbstractAnnotationFrameFactory.VERTEX_FRAME_SUFFIX));
+        Assert.assertTrue(generated.contains(FatherEdge.class.getName() + AbstractAnnotationFrameFactory.EDGE_FRAME_SUFFIX));
+        for (final String className : generated)
+            Assert.assertTrue(new File(outputDirectory, className.replace('.', File.separatorChar) + ".class").isFile());
+    }
+
+    @Test
+    public void testLoadPrecompiledClasses() throws IOException {
+        final File outputDirectory = temporaryFolder.newFolder();
+        final ReflectionCache reflectionCache = new ReflectionCache(TEST_TYPES);
+        new FrameClassGenerator(new AnnotationFrameFactory(reflectionCache)).generate(TEST_TYPES, outputDirectory);
+
+        final ClassLoader precompiledLoader = new URLClassLoader(new URL[]{outputDirectory.toURI().toURL()}, getClass().getClassLoader());
+        final FramedGraph framedGraph = createFramedGraph(new PrecompiledAnnotationFrameFactory(reflectionCache, precompiledLoader), reflectionCache);
+
+        final God father = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+        Assert.assertSame(precompiledLoader, father.getClass().getClassLoader());
+        Assert.assertEquals(God.class.getName() + AbstractAnnotationFrameFactory.VERTEX_FRAME_SUFFIX, father.getClass().getName());
+        Assert.assertEquals("jupiter", father.getName());
+
+        Assert.assertEquals("hercules", father.getSon().getName());
+        final FatherEdge fatherEdge = framedGraph.traverse(input -> input.V().has("name", "jupiter").inE("father")).nextExplicit(FatherEdge.class);
+        Assert.assertSame(precompiledLoader, fatherEdge.getClass().getClassLoader());
+        Assert.assertEquals("jupiter", fatherEdge.getFather().getName());
+        Assert.assertEquals("hercules", fatherEdge.getSon().getName());
+    }
+
+    @Test
+    public void testGeneratorMainClassesLoadedWithoutRuntimeGeneration() throws IOException {
+        final File outputDirectory = temporaryFolder.newFolder();
+        FrameClassGenerator.main(new String[]{outputDirectory.getPath(), God.class.getPackage().getName()});
+        Assert.assertTrue(new File(outputDirectory, (God.class.getName() + AbstractAnnotationFrameFactory.VERTEX_FRAME_SUFFIX).replace('.', File.separatorChar) + ".class").isFile());
+
+        final ReflectionCache reflectionCache = new ReflectionCache(God.class.getPackage().getName());
+        final ClassLoader precompiledLoader = new URLClassLoader(new URL[]{outputDirectory.toURI().toURL()}, getClass().getClassLoader());
+        final AnnotationFrameFactory frameFactory = new PrecompiledAnnotationFrameFactory(reflectionCache, precompiledLoader) {
+            @Override
+            protected <E> DynamicType.Unloaded<? extends E> makeClass(final Class<E> clazz, final boolean vertex) {
+                throw new AssertionError(clazz.getName() + " was generated at runtime");
+            }
+        };
+        final FramedGraph framedGraph = createFramedGraph(frameFactory, reflectionCache);
+
+        final God father = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+        Assert.assertSame(precompiledLoader, father.getClass().getClassLoader());
+        Assert.assertEquals("jupiter", father.getName());
+        final GodExtended son = framedGraph.traverse(input -> input.V().has("name", "hercules")).nextExplicit(GodExtended.class);
+        Assert.assertSame(precompiledLoader, son.getClass().getClassLoader());
+        Assert.assertEquals("hercules", son.getName());
+    }
+
+    @Test
+    public void testFallbackToRuntimeGeneration() throws IOException {
+        final ReflectionCache reflectionCache = new ReflectionCache(TEST_TYPES);
+        final ClassLoader emptyLoader = new URLClassLoader(new URL[]{temporaryFolder.newFolder().toURI().toURL()}, getClass().getClassLoader());
+        final FramedGraph framedGraph = createFramedGraph(new PrecompiledAnnotationFrameFactory(reflectionCache, emptyLoader), reflectionCache);
+
+        final God father = framedGraph.traverse(input -> input.V().has("name", "jupiter")).next(God.class);
+        Assert.assertNotSame(emptyLoader, father.getClass().getClassLoader());
+        Assert.assertEquals("jupiter", father.getName());
+        Assert.assertEquals("hercules", father.getSon().getName());
+    }
+
+    @Test
+    public void testRuntimeGenerationWithPrecompiledClassOnClasspath() throws Exception {
+        final Set<Class<?>> types = Collections.singleton(ClasspathFrame.class);
+        final ReflectionCache reflectionCache = new ReflectionCache(types);
+        final File classpathDirectory = new File(ClasspathFrame.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final List<String> generated = new FrameClassGenerator(new AnnotationFrameFactory(reflectionCache)).generate(types, classpathDirectory);
+        try {
+            final Graph graph = TinkerGraph.open();
+            graph.addVertex("name", "jupiter");
+
+            final FramedGraph runtimeGraph = new DelegatingFramedGraph<>(graph, new AnnotationFrameFactory(reflectionCache), new PolymorphicTypeResolver(reflectionCache));
+            final ClasspathFrame runtimeFrame = runtimeGraph.traverse(input -> input.V()).nextExplicit(ClasspathFrame.class);
+            Assert.assertNotEquals(generated.get(0), runtimeFrame.getClass().getName());
+            Assert.assertEquals("jupiter", runtimeFrame.getName());
+
+            final FramedGraph precompiledGraph = new DelegatingFramedGraph<>(graph, new PrecompiledAnnotationFrameFactory(reflectionCache), new PolymorphicTypeResolver(reflectionCache));
+            final ClasspathFrame precompiledFrame = precompiledGraph.traverse(input -> input.V()).nextExplicit(ClasspathFrame.class);
+            Assert.assertEquals(generated.get(0), precompiledFrame.getClass().getName());
+            Assert.assertEquals("jupiter", precompiledFrame.getName());
+        }
+        finally {
+            for (final String className : generated)
+                new File(classpathDirectory, className.replace('.', File.separatorChar) + ".class").delete();
+        }
+    }
+
+    @GraphElement
+    public interface ClasspathFrame extends VertexFrame {
+        @Property("name")
+        String getName();
+    }
+
+    private static FramedGraph createFramedGraph(final AnnotationFrameFactory frameFactory, final ReflectionCache reflectionCache) {
+        final Graph godGraph = TinkerGraph.open();
+        GodGraphLoader.load(godGraph);
+        return new DelegatingFramedGraph<>(godGraph, frameFactory, new PolymorphicTypeResolver(reflectionCache));
+    }
+}
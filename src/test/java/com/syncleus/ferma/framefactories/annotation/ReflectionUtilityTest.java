@@ -24,6 +24,7 @@ import com.syncleus.ferma.graphtypes.network.ComputerVertex;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.function.Function;
@@ -238,4 +239,11 @@ public class ReflectionUtilityTest {
         Class<?> actualType = ReflectionUtility.getActualType(toTest, pos);
         Assert.assertEquals("Types mismatch!", expected, actualType);
     }
+
+    @Test
+    public void testGetPropertyKeys() {
+        Assert.assertEquals(Collections.singleton("name"), ReflectionUtility.getPropertyKeys(ComputerVertex.class));
+        Assert.assertTrue(ReflectionUtility.getPropertyKeys(God.class).containsAll(Arrays.asList("name", "age", "type")));
+        Assert.assertTrue(ReflectionUtility.getPropertyKeys(SomeMockClass.class).isEmpty());
+    }
 }
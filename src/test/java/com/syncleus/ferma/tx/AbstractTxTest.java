@@ -0,0 +1,107 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.tx;
+
+import com.syncleus.ferma.FrameSession;
+import com.syncleus.ferma.TVertex;
+import com.syncleus.ferma.VertexFrame;
+import java.util.Iterator;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class AbstractTxTest {
+
+    private DummyGraph graph;
+    private DummyTransaction tx;
+    private Object id;
+
+    @Before
+    public void setUp() {
+        graph = new DummyGraph(TinkerGraph.open());
+        id = graph.addFramedVertex(TVertex.class).getId();
+        tx = new DummyTransaction(Mockito.mock(Transaction.class), graph);
+        Tx.setActive(tx);
+    }
+
+    @After
+    public void tearDown() {
+        Tx.setActive(null);
+    }
+
+    @Test
+    public void testSameFrameWithinTx() {
+        Assert.assertSame(tx.getFrameSession(), FrameSession.getActive());
+        TVertex frame = graph.getFramedVertex(TVertex.class, id);
+        Assert.assertSame(frame, graph.getFramedVertex(TVertex.class, id));
+        Assert.assertSame(frame, graph.getFramedVertexExplicit(TVertex.class, id));
+        Assert.assertSame(frame, graph.traverse(input -> input.V(id)).next(VertexFrame.class));
+        Assert.assertEquals(1, tx.getFrameSession().size());
+    }
+
+    @Test
+    public void testSessionClearedOnClose() {
+        TVertex frame = graph.getFramedVertex(TVertex.class, id);
+        tx.close();
+        Assert.assertNull(FrameSession.getActive());
+        Assert.assertEquals(0, tx.getFrameSession().size());
+        Assert.assertNotSame(frame, graph.getFramedVertex(TVertex.class, id));
+    }
+
+    @Test
+    public void testSessionClearedOnCommit() {
+        TVertex frame = graph.getFramedVertex(TVertex.class, id);
+        tx.commit();
+        Assert.assertSame(tx.getFrameSession(), FrameSession.getActive());
+        Assert.assertEquals(0, tx.getFrameSession().size());
+        Assert.assertNotSame(frame, graph.getFramedVertex(TVertex.class, id));
+    }
+
+    @Test
+    public void testSessionClearedOnRollback() {
+        TVertex frame = graph.getFramedVertex(TVertex.class, id);
+        tx.commit();
+        TVertex committed = graph.getFramedVertex(TVertex.class, id);
+        Assert.assertNotSame(frame, committed);
+        tx.rollback();
+        Assert.assertEquals(0, tx.getFrameSession().size());
+        Assert.assertNotSame(committed, graph.getFramedVertex(TVertex.class, id));
+        Assert.assertEquals(1, tx.getFrameSession().size());
+    }
+
+    @Test
+    public void testRemovedElementEvicted() {
+        TVertex frame = graph.addFramedVertex(TVertex.class);
+        Assert.assertSame(frame, graph.getFramedVertex(TVertex.class, frame.getId()));
+        frame.remove();
+        Assert.assertNull(tx.getFrameSession().get(graph, frame.getElement(), TVertex.class, false));
+    }
+
+    @Test
+    public void testFlyweightFramesNotShared() {
+        TVertex added = graph.addFramedVertex(TVertex.class);
+        Iterator<TVertex> flyweight = graph.traverse(input -> input.V()).frameFlyweight(TVertex.class);
+        TVertex first = flyweight.next();
+        flyweight.next();
+        Assert.assertNotSame(added, first);
+        Assert.assertEquals(1, tx.getFrameSession().size());
+        Assert.assertNotSame(first, graph.getFramedVertex(TVertex.class, id));
+    }
+}
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.verify;
 
+import com.syncleus.ferma.FrameSession;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.junit.Assert;
@@ -35,6 +36,7 @@ public class TxFactoryTest implements TxFactory {
     public void setupMocks() {
         Transaction rawTx = Mockito.mock(Transaction.class);
         Mockito.when(mock.getDelegate()).thenReturn(rawTx);
+        Mockito.when(mock.getFrameSession()).thenReturn(new FrameSession());
     }
 
 //    @Test
@@ -75,9 +77,11 @@ public class TxFactoryTest implements TxFactory {
         DummyTransaction tx = Mockito.mock(DummyTransaction.class, Mockito.CALLS_REAL_METHODS);
         Transaction rawTx = Mockito.mock(Transaction.class);
         Mockito.when(tx.getDelegate()).thenReturn(rawTx);
+        Mockito.when(tx.getFrameSession()).thenReturn(new FrameSession());
         DummyGraph graphMock = Mockito.mock(DummyGraph.class, Mockito.CALLS_REAL_METHODS);
         Mockito.when(graphMock.createTx()).thenReturn(tx);
-        Mockito.when(graphMock.tx()).thenReturn(tx);
+        Mockito.doReturn(tx).when(graphMock).tx();
+        Tx.setActive(tx);
         try (Tx tx2 = graphMock.tx()) {
             assertNotNull(Tx.getActive());
             tx2.success();
@@ -94,8 +98,10 @@ public class TxFactoryTest implements TxFactory {
         DummyTransaction tx = Mockito.mock(DummyTransaction.class, Mockito.CALLS_REAL_METHODS);
         Transaction rawTx = Mockito.mock(Transaction.class);
         Mockito.when(tx.getDelegate()).thenReturn(rawTx);
+        Mockito.when(tx.getFrameSession()).thenReturn(new FrameSession());
         DummyGraph graphMock = Mockito.mock(DummyGraph.class, Mockito.CALLS_REAL_METHODS);
-        Mockito.when(graphMock.tx()).thenReturn(tx);
+        Mockito.doReturn(tx).when(graphMock).tx();
+        Tx.setActive(tx);
         try (Tx tx2 = tx) {
             assertNotNull(Tx.getActive());
             // Don't call tx2.success() or tx2.failure()
@@ -112,8 +118,10 @@ public class TxFactoryTest implements TxFactory {
         DummyTransaction tx = Mockito.mock(DummyTransaction.class, Mockito.CALLS_REAL_METHODS);
         Transaction rawTx = Mockito.mock(Transaction.class);
         Mockito.when(tx.getDelegate()).thenReturn(rawTx);
+        Mockito.when(tx.getFrameSession()).thenReturn(new FrameSession());
         DummyGraph graphMock = Mockito.mock(DummyGraph.class, Mockito.CALLS_REAL_METHODS);
-        Mockito.when(graphMock.tx()).thenReturn(tx);
+        Mockito.doReturn(tx).when(graphMock).tx();
+        Tx.setActive(tx);
         try (Tx tx2 = tx) {
             assertNotNull(Tx.getActive());
             tx2.failure();
@@ -16,6 +16,7 @@
 package com.syncleus.ferma.tx;
 
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,6 +33,11 @@ public class TxFramedGraphTest {
     public void setUp() {
         graph = new DummyGraph(TinkerGraph.open());
     }
+
+    @After
+    public void tearDown() {
+        Tx.setActive(null);
+    }
     
     @Test
     public void testSingleTxCreation() {
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2004 - 2017 Syncleus, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.syncleus.ferma.typeresolvers;
+
+import com.syncleus.ferma.DelegatingFramedGraph;
+import com.syncleus.ferma.Person;
+import com.syncleus.ferma.Program;
+import com.syncleus.ferma.Programmer;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.framefactories.annotation.AnnotationFrameFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CompactTypeResolverTest {
+
+    private static final String TYPE_RESOLUTION_KEY = "t";
+    private CompactTypeResolver resolver;
+    private DelegatingFramedGraph<?> framedGraph;
+
+    @Before
+    public void setUp() {
+        Map<String, Class<?>> codes = new HashMap<>();
+        codes.put("P", Person.class);
+        codes.put("PR", Programmer.class);
+        codes.put("G", Program.class);
+        resolver = new CompactTypeResolver(new TypeCodeRegistry(codes), TYPE_RESOLUTION_KEY);
+        framedGraph = new DelegatingFramedGraph<>(TinkerGraph.open(), new AnnotationFrameFactory(new ReflectionCache()), resolver);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        framedGraph.close();
+    }
+
+    @Test
+    public void testStoresTypeCode() {
+        Person programmer = framedGraph.addFramedVertex(Programmer.class);
+        Assert.assertEquals("PR", programmer.getProperty(TYPE_RESOLUTION_KEY));
+        Assert.assertEquals(Programmer.class, resolver.resolve(programmer.getElement()));
+
+        Person reframed = framedGraph.traverse(input -> input.V()).next(Person.class);
+        Assert.assertTrue(reframed instanceof Programmer);
+        Assert.assertEquals(Program.class, resolver.resolve(programmer.getElement(), Program.class));
+
+        programmer.setTypeResolution(Person.class);
+        Assert.assertEquals("P", programmer.getProperty(TYPE_RESOLUTION_KEY));
+        programmer.removeTypeResolution();
+        Assert.assertNull(resolver.resolve(programmer.getElement()));
+        Assert.assertEquals(Person.class, resolver.resolve(programmer.getElement(), Person.class));
+    }
+
+    @Test
+    public void testHasType() {
+        framedGraph.addFramedVertex(Person.class);
+        framedGraph.addFramedVertex(Programmer.class);
+        framedGraph.addFramedVertex(Program.class);
+        framedGraph.getBaseGraph().addVertex();
+
+        Assert.assertEquals(2, resolver.hasType(framedGraph.getRawTraversal().V(), Person.class).count().next().longValue());
+        Assert.assertEquals(1, resolver.hasType(framedGraph.getRawTraversal().V(), Programmer.class).count().next().longValue());
+        Assert.assertEquals(2, resolver.hasNotType(framedGraph.getRawTraversal().V(), Person.class).count().next().longValue());
+        Assert.assertEquals(3, resolver.hasNotType(framedGraph.getRawTraversal().V(), Programmer.class).count().next().longValue());
+    }
+
+    @Test
+    public void testSubTypeCodes() {
+        Map<String, Class<?>> codes = new HashMap<>();
+        codes.put("P", Person.class);
+        codes.put("PR", Programmer.class);
+        TypeCodeRegistry registry = new TypeCodeRegistry(codes);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("P", "PR")), registry.getSubTypeCodes(Person.class));
+        Assert.assertEquals(new HashSet<>(Arrays.asList("PR")), registry.getSubTypeCodes(Programmer.class));
+        Assert.assertTrue(registry.getSubTypeCodes(Program.class).isEmpty());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testUnregisteredType() {
+        framedGraph.addFramedVertex(CompactTypeResolverTest.UnregisteredVertex.class);
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void testUnknownTypeCode() {
+        Vertex vertex = framedGraph.getBaseGraph().addVertex(TYPE_RESOLUTION_KEY, "X");
+        resolver.resolve(vertex, Person.class);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void testDuplicateTypeCode() {
+        Map<String, Class<?>> codes = new HashMap<>();
+        codes.put("P", Person.class);
+        codes.put("Q", Person.class);
+        new TypeCodeRegistry(codes);
+    }
+
+    public static class UnregisteredVertex extends Person {
+    }
+}
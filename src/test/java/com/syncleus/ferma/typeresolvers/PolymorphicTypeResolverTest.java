@@ -15,14 +15,28 @@
  */
 package com.syncleus.ferma.typeresolvers;
 
+import com.syncleus.ferma.DelegatingTransaction;
+import com.syncleus.ferma.Person;
+import com.syncleus.ferma.Program;
+import com.syncleus.ferma.Programmer;
+import com.syncleus.ferma.ReflectionCache;
+import com.syncleus.ferma.VertexFrame;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 /**
  *
@@ -64,4 +78,94 @@ public class PolymorphicTypeResolverTest {
         resolver.deinit(emptyVertex);
         Assert.assertNull(resolver.resolve(emptyVertex));
     }
+
+    @Test
+    public void testResolveKindLooksUpClassOnce() {
+        ReflectionCache reflectionCache = Mockito.spy(new ReflectionCache());
+        PolymorphicTypeResolver cachingResolver = new PolymorphicTypeResolver(reflectionCache, TYPE_RESOLUTION_KEY);
+        emptyVertex.property(TYPE_RESOLUTION_KEY, Programmer.class.getName());
+        Vertex otherVertex = graph.addVertex(TYPE_RESOLUTION_KEY, Programmer.class.getName());
+
+        Assert.assertEquals(Programmer.class, cachingResolver.resolve(emptyVertex, Person.class));
+        Assert.assertEquals(Programmer.class, cachingResolver.resolve(otherVertex, Person.class));
+        Assert.assertEquals(Programmer.class, cachingResolver.resolve(emptyVertex, VertexFrame.class));
+        Assert.assertEquals(Program.class, cachingResolver.resolve(emptyVertex, Program.class));
+        Assert.assertEquals(Program.class, cachingResolver.resolve(otherVertex, Program.class));
+        Mockito.verify(reflectionCache, Mockito.times(3)).forName(Programmer.class.getName());
+    }
+
+    @Test
+    public void testElementTypeCache() {
+        PolymorphicTypeResolver cachingResolver = new PolymorphicTypeResolver(new ReflectionCache(), TYPE_RESOLUTION_KEY, true);
+        Assert.assertEquals(Person.class, cachingResolver.resolve(emptyVertex, Person.class));
+
+        emptyVertex.property(TYPE_RESOLUTION_KEY, Programmer.class.getName());
+        Assert.assertEquals(Person.class, cachingResolver.resolve(emptyVertex, Person.class));
+        Assert.assertNull(cachingResolver.resolve(emptyVertex));
+
+        cachingResolver.clearElementTypeCache();
+        Assert.assertEquals(Programmer.class, cachingResolver.resolve(emptyVertex, Person.class));
+        Assert.assertEquals(Programmer.class, cachingResolver.resolve(emptyVertex));
+
+        cachingResolver.init(emptyVertex, Person.class);
+        Assert.assertEquals(Person.class, cachingResolver.resolve(emptyVertex));
+        cachingResolver.deinit(emptyVertex);
+        Assert.assertNull(cachingResolver.resolve(emptyVertex));
+    }
+
+    @Test
+    public void testElementTypeCacheDroppedOnRollback() {
+        PolymorphicTypeResolver cachingResolver = new PolymorphicTypeResolver(new ReflectionCache(), TYPE_RESOLUTION_KEY, true);
+        DelegatingTransaction tx = new DelegatingTransaction(Mockito.mock(Transaction.class), null);
+        emptyVertex.property(TYPE_RESOLUTION_KEY, Person.class.getName());
+        Assert.assertEquals(Person.class, cachingResolver.resolve(emptyVertex));
+
+        cachingResolver.init(emptyVertex, Programmer.class);
+        Assert.assertEquals(Programmer.class, cachingResolver.resolve(emptyVertex));
+
+        //TinkerGraph is not transactional, so undo the write the way the rollback of the graph would
+        emptyVertex.property(TYPE_RESOLUTION_KEY, Person.class.getName());
+        tx.rollback();
+        Assert.assertEquals(Person.class, cachingResolver.resolve(emptyVertex));
+    }
+
+    @Test
+    public void testElementTypeCacheDroppedOnCommit() {
+        PolymorphicTypeResolver cachingResolver = new PolymorphicTypeResolver(new ReflectionCache(), TYPE_RESOLUTION_KEY, true);
+        DelegatingTransaction tx = new DelegatingTransaction(Mockito.mock(Transaction.class), null);
+        Assert.assertNull(cachingResolver.resolve(emptyVertex));
+
+        emptyVertex.property(TYPE_RESOLUTION_KEY, Programmer.class.getName());
+        Assert.assertNull(cachingResolver.resolve(emptyVertex));
+
+        tx.commit();
+        Assert.assertEquals(Programmer.class, cachingResolver.resolve(emptyVertex));
+    }
+
+    @Test
+    public void testElementTypeCacheIsBounded() {
+        PolymorphicTypeResolver cachingResolver = new PolymorphicTypeResolver(new ReflectionCache(), TYPE_RESOLUTION_KEY, true);
+        Assert.assertNull(cachingResolver.resolve(emptyVertex));
+        emptyVertex.property(TYPE_RESOLUTION_KEY, Programmer.class.getName());
+
+        for (int i = 0; i < PolymorphicTypeResolver.ELEMENT_TYPE_CACHE_SIZE; i++)
+            cachingResolver.resolve(graph.addVertex());
+        Assert.assertEquals(Programmer.class, cachingResolver.resolve(emptyVertex));
+    }
+
+    @Test
+    public void testHasNotTypeWithoutLambda() {
+        Set<Class<?>> types = new HashSet<>(Arrays.asList(Person.class, Programmer.class));
+        PolymorphicTypeResolver typedResolver = new PolymorphicTypeResolver(new ReflectionCache(types), TYPE_RESOLUTION_KEY);
+        graph.addVertex(TYPE_RESOLUTION_KEY, Person.class.getName());
+        graph.addVertex(TYPE_RESOLUTION_KEY, Programmer.class.getName());
+        graph.addVertex(TYPE_RESOLUTION_KEY, Program.class.getName());
+
+        GraphTraversal<Vertex, Vertex> notPersons = typedResolver.hasNotType(graph.traversal().V(), Person.class);
+        Assert.assertTrue(TraversalHelper.getStepsOfAssignableClassRecursively(LambdaHolder.class, notPersons.asAdmin()).isEmpty());
+        Assert.assertEquals(2, notPersons.count().next().longValue());
+
+        GraphTraversal<Vertex, Vertex> notProgrammers = typedResolver.hasNotType(graph.traversal().V(), Programmer.class);
+        Assert.assertEquals(3, notProgrammers.count().next().longValue());
+    }
 }